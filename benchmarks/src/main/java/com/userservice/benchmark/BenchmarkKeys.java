@@ -0,0 +1,56 @@
+package com.userservice.benchmark;
+
+import com.userservice.config.TokenConfig;
+import java.lang.reflect.Field;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import org.springframework.util.ReflectionUtils;
+
+public final class BenchmarkKeys {
+    private static final int KEY_SIZE = 2048;
+    private static final int ACCESS_TOKEN_EXPIRE_MINUTES = 30;
+    private static final int REFRESH_TOKEN_EXPIRE_DAYS = 1;
+
+    private BenchmarkKeys() {
+    }
+
+    public static KeyPair generateKeyPair() {
+        try {
+            final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(KEY_SIZE);
+            return keyPairGenerator.generateKeyPair();
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    // The expiry settings are injected by Spring in the service, so they are set to the application defaults here.
+    public static TokenConfig tokenConfig(final KeyPair keyPair) {
+        final TokenConfig tokenConfig = new TokenConfig(publicPem(keyPair), privatePem(keyPair));
+        setField(tokenConfig, "accessTokenExpireMinutes", ACCESS_TOKEN_EXPIRE_MINUTES);
+        setField(tokenConfig, "refreshTokenExpireDays", REFRESH_TOKEN_EXPIRE_DAYS);
+        return tokenConfig;
+    }
+
+    public static String publicPem(final KeyPair keyPair) {
+        return toPem("PUBLIC KEY", keyPair.getPublic().getEncoded());
+    }
+
+    public static String privatePem(final KeyPair keyPair) {
+        return toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded());
+    }
+
+    private static void setField(final TokenConfig tokenConfig, final String name, final int value) {
+        final Field field = ReflectionUtils.findField(TokenConfig.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, tokenConfig, value);
+    }
+
+    private static String toPem(final String type, final byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----";
+    }
+}
@@ -0,0 +1,62 @@
+package com.userservice.benchmark;
+
+import com.userservice.codec.TokenCodec;
+import com.userservice.model.Token;
+import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The small per-request steps around the token: building the claims map from a user and stripping the bearer
+ * prefix from the {@code Authorization} header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class ClaimsBenchmark {
+    private UserEntity user;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        user = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .firstName("Bench")
+                .lastName("Mark")
+                .userType(UserType.USER)
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+
+        final TokenCodec tokenCodec = new TokenCodec(BenchmarkKeys.tokenConfig(BenchmarkKeys.generateKeyPair()));
+        authorizationHeader = "Bearer " + tokenCodec.sign(user.getUserClaims());
+    }
+
+    @Benchmark
+    public Map<String, Object> getUserClaims() {
+        return user.getUserClaims();
+    }
+
+    @Benchmark
+    public String getJwtFromHeader() {
+        return Token.getJwtFromHeader(authorizationHeader);
+    }
+}
@@ -0,0 +1,50 @@
+package com.userservice.benchmark;
+
+import com.userservice.utils.KeyConverter;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses the PEM keys the service is configured with, as {@link com.userservice.config.TokenConfig} does on startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class KeyConverterBenchmark {
+    private String publicPem;
+    private String privatePem;
+
+    @Setup
+    public void setUp() {
+        final KeyPair keyPair = BenchmarkKeys.generateKeyPair();
+        publicPem = BenchmarkKeys.publicPem(keyPair);
+        privatePem = BenchmarkKeys.privatePem(keyPair);
+    }
+
+    @Benchmark
+    public PublicKey convertPublicKey() {
+        return KeyConverter.convertPublicKey(publicPem);
+    }
+
+    @Benchmark
+    public PrivateKey convertPrivateKey() {
+        return KeyConverter.convertPrivateKey(privatePem);
+    }
+}
@@ -0,0 +1,152 @@
+package com.userservice.benchmark;
+
+import com.userservice.utils.TimeOrderedUuidGenerator;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserts rows shaped like {@code invalid_tokens} with the old random {@code CHAR(36)} key and the new
+ * time-ordered {@code BINARY(16)} key, one statement per row or as a JDBC batch. Throughput is reported per row;
+ * table and index sizes are printed at the end of each trial when running against MySQL.
+ *
+ * <p>Defaults to an in-memory H2 stand-in. Point it at a local MySQL with
+ * {@code -jvmArgs "-Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/test?rewriteBatchedStatements=true
+ * -Dbenchmark.jdbc.username=... -Dbenchmark.jdbc.password=..."}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(1)
+public class KeyLayoutBenchmark {
+    private static final int ROWS_PER_INVOCATION = 50;
+    private static final String TABLE = "key_layout_benchmark";
+
+    @Param({"RANDOM_CHAR36", "TIME_ORDERED_BINARY16"})
+    public KeyLayout keyLayout;
+
+    @Param({"false", "true"})
+    public boolean batched;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:keys;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.jdbc.username", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + "ID " + keyLayout.columnType + " NOT NULL PRIMARY KEY, "
+                    + "TOKEN_ID VARCHAR(36) NOT NULL, "
+                    + "EXPIRES_AT TIMESTAMP(6) NULL, "
+                    + "CONSTRAINT UK_" + TABLE + "_TOKEN_ID UNIQUE (TOKEN_ID))");
+            statement.execute("CREATE INDEX IDX_" + TABLE + "_EXPIRES_AT ON " + TABLE + " (EXPIRES_AT)");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (ID, TOKEN_ID, EXPIRES_AT) VALUES (?, ?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void insertRows() throws SQLException {
+        final Timestamp expiresAt = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+
+        for (int row = 0; row < ROWS_PER_INVOCATION; row++) {
+            insert.setObject(1, keyLayout.nextKey());
+            insert.setString(2, UUID.randomUUID().toString());
+            insert.setTimestamp(3, expiresAt);
+
+            if (batched) {
+                insert.addBatch();
+            } else {
+                insert.executeUpdate();
+            }
+        }
+
+        if (batched) {
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        printTableSize();
+        insert.close();
+        connection.close();
+    }
+
+    private void printTableSize() throws SQLException {
+        if (!connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql")) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + TABLE);
+            try (ResultSet resultSet = statement.executeQuery("SELECT TABLE_ROWS, DATA_LENGTH, INDEX_LENGTH "
+                    + "FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '"
+                    + TABLE + "'")) {
+                if (resultSet.next()) {
+                    System.out.printf("%n%s batched=%s: rows=%d data=%d bytes index=%d bytes%n",
+                            keyLayout, batched, resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    public enum KeyLayout {
+        RANDOM_CHAR36("CHAR(36)") {
+            @Override
+            Object nextKey() {
+                return UUID.randomUUID().toString();
+            }
+        },
+        TIME_ORDERED_BINARY16("BINARY(16)") {
+            @Override
+            Object nextKey() {
+                return TimeOrderedUuidGenerator.toBytes(TimeOrderedUuidGenerator.next());
+            }
+        };
+
+        private final String columnType;
+
+        KeyLayout(final String columnType) {
+            this.columnType = columnType;
+        }
+
+        abstract Object nextKey();
+    }
+}
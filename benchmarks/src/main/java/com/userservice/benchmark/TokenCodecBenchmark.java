@@ -0,0 +1,101 @@
+package com.userservice.benchmark;
+
+import com.userservice.codec.TokenCodec;
+import com.userservice.config.TokenConfig;
+import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.TokenClaims;
+import com.userservice.model.enums.TokenType;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-call {@code Jwts.builder()}/{@code Jwts.parser()} path TokenServiceImpl used before
+ * {@link TokenCodec} with the codec itself. Run with {@code -t} to see the effect of per-thread signer reuse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class TokenCodecBenchmark {
+    private TokenConfig tokenConfig;
+    private TokenCodec tokenCodec;
+    private Map<String, Object> claims;
+    private String jwt;
+
+    @Setup
+    public void setUp() {
+        tokenConfig = BenchmarkKeys.tokenConfig(BenchmarkKeys.generateKeyPair());
+        tokenCodec = new TokenCodec(tokenConfig);
+        claims = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .firstName("Bench")
+                .lastName("Mark")
+                .userType(UserType.USER)
+                .userStatus(UserStatus.ACTIVE)
+                .build()
+                .getUserClaims();
+        jwt = legacySign();
+    }
+
+    @Benchmark
+    public String legacySign() {
+        final long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header()
+                .type(TokenType.BEARER.getValue())
+                .and()
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.MINUTES.toMillis(30)))
+                .signWith(tokenConfig.getPrivateKey())
+                .claims(claims)
+                .compact();
+    }
+
+    @Benchmark
+    public String codecSign() {
+        final long now = System.currentTimeMillis() / 1000;
+        final Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put(TokenClaims.JWT_ID.getValue(), UUID.randomUUID().toString());
+        payload.put(TokenClaims.ISSUED_AT.getValue(), now);
+        payload.put(TokenClaims.EXPIRES_AT.getValue(), now + TimeUnit.MINUTES.toSeconds(30));
+        payload.putAll(claims);
+        return tokenCodec.sign(payload);
+    }
+
+    @Benchmark
+    public Jws<Claims> legacyVerify() {
+        return Jwts.parser()
+                .verifyWith(tokenConfig.getPublicKey())
+                .build()
+                .parseSignedClaims(jwt);
+    }
+
+    @Benchmark
+    public Jws<Claims> codecVerify() {
+        return tokenCodec.parse(jwt);
+    }
+}
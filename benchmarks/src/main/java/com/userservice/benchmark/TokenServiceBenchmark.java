@@ -0,0 +1,140 @@
+package com.userservice.benchmark;
+
+import com.userservice.cache.VerifiedTokenCache;
+import com.userservice.codec.TokenCodec;
+import com.userservice.config.TokenConfig;
+import com.userservice.model.Token;
+import com.userservice.model.UserClaims;
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import com.userservice.security.AuthStageMetrics;
+import com.userservice.service.InvalidTokenService;
+import com.userservice.service.TokenEpochService;
+import com.userservice.service.impl.TokenServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * Measures {@link TokenServiceImpl} as it runs in the service, with the real codec and verified-token cache. The
+ * revocation and epoch checks are stubbed to pass, so the refresh overload measures only the token service's own
+ * work; {@code tokenCache} switches the verified-token cache on to show the hit path of {@code verifyAndValidate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class TokenServiceBenchmark {
+
+    @Param({"false", "true"})
+    public boolean tokenCache;
+
+    private TokenServiceImpl tokenService;
+    private UserClaims claims;
+    private String accessToken;
+    private VerifiedToken verifiedAccessToken;
+    private VerifiedToken verifiedRefreshToken;
+
+    @Setup
+    public void setUp() {
+        final TokenConfig tokenConfig = BenchmarkKeys.tokenConfig(BenchmarkKeys.generateKeyPair());
+        tokenService = new TokenServiceImpl(
+                tokenConfig,
+                new PassingInvalidTokenService(),
+                new PassingTokenEpochService(),
+                new VerifiedTokenCache(tokenCache, 10_000, new SimpleMeterRegistry()),
+                new TokenCodec(tokenConfig),
+                new AuthStageMetrics(new SimpleMeterRegistry()));
+
+        claims = UserClaims.of(UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .firstName("Bench")
+                .lastName("Mark")
+                .userType(UserType.USER)
+                .userStatus(UserStatus.ACTIVE)
+                .build(), 0L);
+
+        final Token token = tokenService.generateToken(claims);
+        accessToken = token.getAccessToken();
+        verifiedAccessToken = tokenService.verifyAndValidate(accessToken);
+        verifiedRefreshToken = tokenService.verifyAndValidate(token.getRefreshToken());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Token generateToken() {
+        return tokenService.generateToken(claims);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Token generateTokenFromRefreshToken() {
+        return tokenService.generateToken(claims, verifiedRefreshToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyAndValidate() {
+        return tokenService.verifyAndValidate(accessToken);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken getAuthenticationFromJwt() {
+        return tokenService.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken getAuthenticationFromVerifiedToken() {
+        return tokenService.getAuthentication(verifiedAccessToken);
+    }
+
+    private static final class PassingInvalidTokenService implements InvalidTokenService {
+
+        @Override
+        public void invalidateTokens(final Set<VerifiedToken> tokens) {
+        }
+
+        @Override
+        public void checkForInvalidityOfToken(final String tokenId) {
+        }
+    }
+
+    private static final class PassingTokenEpochService implements TokenEpochService {
+
+        @Override
+        public long getCurrentEpoch(final String userId) {
+            return 0L;
+        }
+
+        @Override
+        public void checkTokenEpoch(final VerifiedToken token) {
+        }
+
+        @Override
+        public void checkTokenEpoch(final VerifiedToken token, final long currentEpoch) {
+        }
+
+        @Override
+        public void incrementEpoch(final String userId) {
+        }
+    }
+}
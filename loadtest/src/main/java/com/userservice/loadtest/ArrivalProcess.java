@@ -0,0 +1,25 @@
+package com.userservice.loadtest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How request start times are spaced at a given rate. Arrivals are scheduled independently of responses (open
+ * model), so a slow service builds up in-flight requests instead of slowing the generator down.
+ */
+public enum ArrivalProcess {
+    CONSTANT {
+        @Override
+        long nextIntervalNanos(final double ratePerSecond, final Random random) {
+            return Math.round(TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        }
+    },
+    POISSON {
+        @Override
+        long nextIntervalNanos(final double ratePerSecond, final Random random) {
+            return Math.round(-Math.log(1.0 - random.nextDouble()) * TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        }
+    };
+
+    abstract long nextIntervalNanos(double ratePerSecond, Random random);
+}
@@ -0,0 +1,88 @@
+package com.userservice.loadtest;
+
+import com.userservice.loadtest.LoadTestReport.EndpointReport;
+import com.userservice.loadtest.LoadTestReport.LatencyReport;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes of one endpoint during the measured part of a run. Latency runs from the time the
+ * request was scheduled to start, not from when it was sent, so a generator or connection backlog shows up in the
+ * percentiles instead of hiding them.
+ */
+final class EndpointRecorder {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Operation operation;
+    private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder unavailable = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    EndpointRecorder(final Operation operation) {
+        this.operation = operation;
+    }
+
+    void record(final long latencyNanos, final String outcome) {
+        histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (!String.valueOf(operation.getExpectedStatus()).equals(outcome)) {
+            errors.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        }
+    }
+
+    // No logged-in user was free to make the request; the pool is too small for the rate.
+    void unavailable() {
+        unavailable.increment();
+    }
+
+    // The in-flight limit was reached, so the request was never sent.
+    void dropped() {
+        dropped.increment();
+    }
+
+    EndpointReport report(final double measuredSeconds) {
+        final long requests = histogram.getTotalCount();
+        final Map<String, Long> errorsByOutcome = new TreeMap<>();
+        errors.forEach((outcome, count) -> errorsByOutcome.put(outcome, count.sum()));
+        final long errorCount = errorsByOutcome.values().stream().mapToLong(Long::longValue).sum();
+
+        return new EndpointReport(
+                operation.getEndpoint(),
+                requests,
+                requests / measuredSeconds,
+                errorCount,
+                requests == 0 ? 0.0 : (double) errorCount / requests,
+                errorsByOutcome,
+                unavailable.sum(),
+                dropped.sum(),
+                new LatencyReport(
+                        histogram.getMean() / MICROS_PER_MILLI,
+                        millis(50),
+                        millis(90),
+                        millis(99),
+                        millis(99.9),
+                        histogram.getMaxValue() / MICROS_PER_MILLI),
+                encodedHistogram());
+    }
+
+    private double millis(final double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    // Base64 of the compressed HdrHistogram in microseconds, so any percentile can be recomputed from a report.
+    private String encodedHistogram() {
+        final ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        final int length = histogram.encodeIntoCompressedByteBuffer(buffer, Deflater.BEST_COMPRESSION);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
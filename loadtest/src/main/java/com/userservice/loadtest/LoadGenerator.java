@@ -0,0 +1,187 @@
+package com.userservice.loadtest;
+
+import com.userservice.loadtest.LoadTestReport.EndpointReport;
+import com.userservice.loadtest.SessionPool.Session;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the service with an open-model arrival process: one thread schedules requests at the configured rate
+ * and sends them asynchronously, whether or not earlier requests have completed. Requests scheduled during the
+ * warm-up are sent but not recorded.
+ */
+final class LoadGenerator {
+    private static final String PASSWORD = "LoadTest123!";
+    private static final int SETUP_CONCURRENCY = 16;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final LoadTestConfig config;
+    private final UserServiceClient client;
+    private final SessionPool sessions = new SessionPool();
+    private final Map<Operation, EndpointRecorder> recorders = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final String runId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong registeredUsers = new AtomicLong();
+
+    LoadGenerator(final LoadTestConfig config) {
+        this.config = config;
+        this.client = new UserServiceClient(config.baseUrl(), config.timeout());
+        for (Operation operation : config.mix().getWeights().keySet()) {
+            recorders.put(operation, new EndpointRecorder(operation));
+        }
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        prepareSessions();
+
+        final Random random = new Random(config.seed());
+        final Instant startedAt = Instant.now();
+        final long start = System.nanoTime();
+        final long measureFrom = start + config.warmup().toNanos();
+        final long end = measureFrom + config.duration().toNanos();
+
+        long scheduledAt = start;
+        long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+        while (scheduledAt < end) {
+            waitUntil(scheduledAt);
+
+            final Operation operation = config.mix().next(random);
+            dispatch(operation, scheduledAt, scheduledAt >= measureFrom ? recorders.get(operation) : null);
+
+            if (scheduledAt >= nextProgress) {
+                System.out.printf("%4ds  in flight %d, logged-in users %d%n",
+                        TimeUnit.NANOSECONDS.toSeconds(scheduledAt - start), inFlight.get(), sessions.loggedInCount());
+                nextProgress += PROGRESS_INTERVAL_NANOS;
+            }
+            scheduledAt += config.arrival().nextIntervalNanos(config.rate(), random);
+        }
+        awaitInFlight();
+
+        return report(startedAt);
+    }
+
+    private void dispatch(final Operation operation, final long scheduledAt, final EndpointRecorder recorder) {
+        if (inFlight.get() >= config.maxInFlight()) {
+            if (recorder != null) {
+                recorder.dropped();
+            }
+            return;
+        }
+
+        final Session session = operation == Operation.REGISTER ? newUser() : sessions.acquire(operation);
+        if (session == null) {
+            if (recorder != null) {
+                recorder.unavailable();
+            }
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        client.send(client.request(operation, session)).whenComplete((response, failure) -> {
+            final long latencyNanos = System.nanoTime() - scheduledAt;
+            try {
+                if (recorder != null) {
+                    recorder.record(latencyNanos, outcome(response, failure));
+                }
+                complete(operation, session, response);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    // A user whose registration failed does not exist, so it is not added to the pool.
+    private void complete(final Operation operation, final Session session, final HttpResponse<String> response) {
+        if (operation == Operation.REGISTER
+                && (response == null || response.statusCode() != operation.getExpectedStatus())) {
+            return;
+        }
+
+        try {
+            UserServiceClient.apply(operation, session, response);
+        } catch (RuntimeException exception) {
+            session.loggedOut();
+        }
+        sessions.release(session);
+    }
+
+    private void prepareSessions() throws InterruptedException {
+        System.out.printf("Registering and logging in %d users against %s%n", config.users(), config.baseUrl());
+
+        final Semaphore permits = new Semaphore(SETUP_CONCURRENCY);
+        final List<CompletableFuture<Boolean>> logins = new ArrayList<>();
+        for (int index = 0; index < config.users(); index++) {
+            permits.acquire();
+            final Session session = newUser();
+            logins.add(client.send(client.request(Operation.REGISTER, session))
+                    .thenCompose(response -> client.send(client.request(Operation.LOGIN, session)))
+                    .thenApply(response -> {
+                        UserServiceClient.apply(Operation.LOGIN, session, response);
+                        sessions.release(session);
+                        return session.getAccessToken() != null;
+                    })
+                    .exceptionally(failure -> false)
+                    .whenComplete((loggedIn, failure) -> permits.release()));
+        }
+
+        final long failed = logins.stream().map(CompletableFuture::join).filter(loggedIn -> !loggedIn).count();
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + config.users()
+                    + " users could not be registered and logged in; is the service running at "
+                    + config.baseUrl() + "?");
+        }
+    }
+
+    private Session newUser() {
+        return new Session("loadtest-" + runId + "-" + registeredUsers.incrementAndGet() + "@example.com", PASSWORD);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        final long deadline = System.nanoTime() + config.timeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private LoadTestReport report(final Instant startedAt) {
+        final double measuredSeconds = config.duration().toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+
+        final Map<Operation, EndpointReport> endpoints = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> endpoints.put(operation, recorder.report(measuredSeconds)));
+        final long requests = endpoints.values().stream().mapToLong(EndpointReport::requests).sum();
+
+        return new LoadTestReport(config.label(), startedAt, config, measuredSeconds, requests,
+                requests / measuredSeconds, endpoints);
+    }
+
+    private static void waitUntil(final long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static String outcome(final HttpResponse<String> response, final Throwable failure) {
+        if (response != null) {
+            return String.valueOf(response.statusCode());
+        }
+
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,75 @@
+package com.userservice.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Settings of one run, read from {@code --name=value} arguments. Durations use the ISO-8601 form the service
+ * configuration uses, e.g. {@code PT60S}.
+ */
+public record LoadTestConfig(
+        String label,
+        URI baseUrl,
+        double rate,
+        ArrivalProcess arrival,
+        Duration warmup,
+        Duration duration,
+        TrafficMix mix,
+        int users,
+        int maxInFlight,
+        Duration timeout,
+        long seed,
+        Path output
+) {
+    public static final String DEFAULT_MIX = "register=5,login=15,refresh=20,authenticate=50,logout=10";
+
+    private static final Set<String> OPTIONS = Set.of("label", "base-url", "rate", "arrival", "warmup", "duration",
+            "mix", "users", "max-in-flight", "timeout", "seed", "output");
+
+    public static LoadTestConfig parse(final String[] args) {
+        final Map<String, String> options = options(args, OPTIONS);
+
+        final LoadTestConfig config = new LoadTestConfig(
+                options.getOrDefault("label", "run-" + Instant.now().getEpochSecond()),
+                URI.create(options.getOrDefault("base-url", "http://localhost:8080")),
+                Double.parseDouble(options.getOrDefault("rate", "100")),
+                ArrivalProcess.valueOf(options.getOrDefault("arrival", "poisson").toUpperCase(Locale.ROOT)),
+                Duration.parse(options.getOrDefault("warmup", "PT10S")),
+                Duration.parse(options.getOrDefault("duration", "PT60S")),
+                TrafficMix.parse(options.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(options.getOrDefault("users", "200")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "1000")),
+                Duration.parse(options.getOrDefault("timeout", "PT5S")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Path.of(options.getOrDefault("output", "loadtest-report.json")));
+
+        if (config.rate <= 0 || config.users <= 0 || config.maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate, users and max-in-flight must be positive");
+        }
+        return config;
+    }
+
+    static Map<String, String> options(final String[] args, final Set<String> allowed) {
+        final Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+
+            final String name = arg.substring(2, separator);
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+            options.put(name, arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
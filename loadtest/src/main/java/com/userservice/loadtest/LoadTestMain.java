@@ -0,0 +1,109 @@
+package com.userservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.userservice.loadtest.LoadTestReport.EndpointReport;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Entry point of {@code loadtest.jar}.
+ *
+ * <pre>
+ * java -jar loadtest.jar [--base-url=http://localhost:8080] [--rate=100] [--duration=PT60S] [--label=...]
+ * java -jar loadtest.jar compare baseline.json candidate.json [--threshold=10]
+ * </pre>
+ */
+public final class LoadTestMain {
+    static final ObjectMapper JSON = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String USAGE = """
+            Usage:
+              java -jar loadtest.jar [--name=value ...]
+                --base-url       service to drive (http://localhost:8080)
+                --rate           requests started per second, across all endpoints (100)
+                --arrival        poisson or constant spacing of request starts (poisson)
+                --warmup         load applied before recording starts (PT10S)
+                --duration       recorded part of the run (PT60S)
+                --mix            relative weights (%s)
+                --users          users registered and logged in before the run (200)
+                --max-in-flight  requests beyond this many outstanding are dropped and counted (1000)
+                --timeout        per-request timeout (PT5S)
+                --seed           seed for the arrival times and the mix (42)
+                --label          name of the run in the report
+                --output         report file (loadtest-report.json)
+              java -jar loadtest.jar compare BASELINE.json CANDIDATE.json [--threshold=10]
+                exits with 1 when an endpoint's p99 grew by more than the threshold percentage
+                or its error rate by more than one percentage point
+            """.formatted(LoadTestConfig.DEFAULT_MIX);
+
+    private LoadTestMain() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        try {
+            if (args.length > 0 && "compare".equals(args[0])) {
+                System.exit(compare(Arrays.copyOfRange(args, 1, args.length)));
+            }
+            run(LoadTestConfig.parse(args));
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+        }
+    }
+
+    private static void run(final LoadTestConfig config) throws IOException, InterruptedException {
+        final LoadTestReport report = new LoadGenerator(config).run();
+
+        JSON.writeValue(config.output().toFile(), report);
+        printSummary(report);
+        System.out.printf("%nReport written to %s%n", config.output().toAbsolutePath());
+    }
+
+    private static int compare(final String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("compare needs a baseline and a candidate report");
+        }
+
+        final Map<String, String> options = LoadTestConfig.options(
+                Arrays.copyOfRange(args, 2, args.length), Set.of("threshold"));
+        final double threshold = Double.parseDouble(options.getOrDefault("threshold", "10"));
+
+        final LoadTestReport baseline = JSON.readValue(Path.of(args[0]).toFile(), LoadTestReport.class);
+        final LoadTestReport candidate = JSON.readValue(Path.of(args[1]).toFile(), LoadTestReport.class);
+        return new ReportComparison(baseline, candidate, threshold).print().isEmpty() ? 0 : 1;
+    }
+
+    private static void printSummary(final LoadTestReport report) {
+        System.out.printf("%n%s: %d requests in %.0fs (%.1f req/s)%n%n",
+                report.label(), report.requests(), report.measuredSeconds(), report.throughput());
+        System.out.printf("%-24s %8s %9s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (EndpointReport endpoint : report.endpoints().values()) {
+            System.out.printf("%-24s %8d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.endpoint(),
+                    endpoint.requests(),
+                    endpoint.throughput(),
+                    endpoint.errorRate() * 100,
+                    endpoint.latencyMillis().p50(),
+                    endpoint.latencyMillis().p90(),
+                    endpoint.latencyMillis().p99(),
+                    endpoint.latencyMillis().p999(),
+                    endpoint.latencyMillis().max());
+            if (!endpoint.errorsByOutcome().isEmpty() || endpoint.unavailable() > 0 || endpoint.dropped() > 0) {
+                System.out.printf("%-24s errors %s, no free user %d, dropped %d%n", "",
+                        endpoint.errorsByOutcome(), endpoint.unavailable(), endpoint.dropped());
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.userservice.loadtest;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The JSON report of one run. Reports from two builds run with the same settings are compared with
+ * {@code compare}.
+ */
+public record LoadTestReport(
+        String label,
+        Instant startedAt,
+        LoadTestConfig config,
+        double measuredSeconds,
+        long requests,
+        double throughput,
+        Map<Operation, EndpointReport> endpoints
+) {
+
+    public record EndpointReport(
+            String endpoint,
+            long requests,
+            double throughput,
+            long errors,
+            double errorRate,
+            Map<String, Long> errorsByOutcome,
+            long unavailable,
+            long dropped,
+            LatencyReport latencyMillis,
+            String histogram
+    ) {
+    }
+
+    public record LatencyReport(
+            double mean,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max
+    ) {
+    }
+}
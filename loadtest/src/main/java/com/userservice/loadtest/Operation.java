@@ -0,0 +1,25 @@
+package com.userservice.loadtest;
+
+public enum Operation {
+    REGISTER("POST /users/register", 201),
+    LOGIN("POST /users/login", 202),
+    REFRESH("POST /users/refresh", 202),
+    AUTHENTICATE("GET /users/authenticate", 200),
+    LOGOUT("POST /users/logout", 200);
+
+    private final String endpoint;
+    private final int expectedStatus;
+
+    Operation(final String endpoint, final int expectedStatus) {
+        this.endpoint = endpoint;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+}
@@ -0,0 +1,110 @@
+package com.userservice.loadtest;
+
+import com.userservice.loadtest.LoadTestReport.EndpointReport;
+import com.userservice.loadtest.LoadTestReport.LatencyReport;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compares a candidate report with a baseline, endpoint by endpoint. An endpoint regresses when its p99 grows by
+ * more than the threshold percentage or its error rate grows by more than one percentage point.
+ */
+final class ReportComparison {
+    private static final double ERROR_RATE_TOLERANCE = 0.01;
+    private static final String ROW_FORMAT = "%-24s %-10s %12s %12s %9s%n";
+
+    private final LoadTestReport baseline;
+    private final LoadTestReport candidate;
+    private final double thresholdPercent;
+
+    ReportComparison(final LoadTestReport baseline, final LoadTestReport candidate, final double thresholdPercent) {
+        this.baseline = baseline;
+        this.candidate = candidate;
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    // Prints the comparison and returns the endpoints that regressed.
+    List<String> print() {
+        System.out.printf("Baseline %s (%s) vs candidate %s (%s)%n%n",
+                baseline.label(), baseline.startedAt(), candidate.label(), candidate.startedAt());
+        if (!baseline.config().mix().getWeights().equals(candidate.config().mix().getWeights())
+                || baseline.config().rate() != candidate.config().rate()) {
+            System.out.println("WARNING: the runs used different rates or traffic mixes\n");
+        }
+
+        System.out.printf(ROW_FORMAT, "endpoint", "metric", "baseline", "candidate", "change");
+        final List<String> regressions = new ArrayList<>();
+        for (Operation operation : operations()) {
+            final EndpointReport before = baseline.endpoints().get(operation);
+            final EndpointReport after = candidate.endpoints().get(operation);
+            if (before == null || after == null) {
+                System.out.printf(ROW_FORMAT, operation.getEndpoint(), "-", present(before), present(after), "");
+                continue;
+            }
+
+            row(operation, "req/s", before, after, EndpointReport::throughput);
+            row(operation, "errors", before, after, EndpointReport::errorRate);
+            latencyRow(operation, "p50 ms", before, after, LatencyReport::p50);
+            latencyRow(operation, "p90 ms", before, after, LatencyReport::p90);
+            latencyRow(operation, "p99 ms", before, after, LatencyReport::p99);
+            latencyRow(operation, "p99.9 ms", before, after, LatencyReport::p999);
+            latencyRow(operation, "max ms", before, after, LatencyReport::max);
+
+            if (change(before.latencyMillis().p99(), after.latencyMillis().p99()) > thresholdPercent
+                    || after.errorRate() - before.errorRate() > ERROR_RATE_TOLERANCE) {
+                regressions.add(operation.getEndpoint());
+            }
+        }
+
+        System.out.println();
+        if (regressions.isEmpty()) {
+            System.out.printf("No regressions beyond %.1f%% p99 or one point of error rate%n", thresholdPercent);
+        } else {
+            System.out.printf("REGRESSED (p99 over %.1f%% or error rate up more than one point): %s%n",
+                    thresholdPercent, String.join(", ", regressions));
+        }
+        return regressions;
+    }
+
+    private Set<Operation> operations() {
+        final Set<Operation> operations = EnumSet.noneOf(Operation.class);
+        operations.addAll(baseline.endpoints().keySet());
+        operations.addAll(candidate.endpoints().keySet());
+        return operations;
+    }
+
+    private static void row(final Operation operation, final String metric, final EndpointReport before,
+                            final EndpointReport after, final ToDoubleFunction<EndpointReport> value) {
+        final double baselineValue = value.applyAsDouble(before);
+        final double candidateValue = value.applyAsDouble(after);
+        System.out.printf(ROW_FORMAT, operation.getEndpoint(), metric, format(baselineValue),
+                format(candidateValue), formatChange(change(baselineValue, candidateValue)));
+    }
+
+    private static void latencyRow(final Operation operation, final String metric, final EndpointReport before,
+                                   final EndpointReport after, final ToDoubleFunction<LatencyReport> value) {
+        row(operation, metric, before, after, report -> value.applyAsDouble(report.latencyMillis()));
+    }
+
+    private static double change(final double baselineValue, final double candidateValue) {
+        if (baselineValue == 0) {
+            return candidateValue == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return (candidateValue - baselineValue) / baselineValue * 100;
+    }
+
+    private static String format(final double value) {
+        return String.format("%.3f", value);
+    }
+
+    private static String formatChange(final double change) {
+        return Double.isInfinite(change) ? "new" : String.format("%+.1f%%", change);
+    }
+
+    private static String present(final EndpointReport report) {
+        return report == null ? "not run" : "run";
+    }
+}
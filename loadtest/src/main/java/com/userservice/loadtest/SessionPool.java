@@ -0,0 +1,75 @@
+package com.userservice.loadtest;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Users the generator acts as. A session is taken out of the pool for the duration of one request, so a refresh and
+ * a logout never race on the same tokens; it goes back logged in or logged out depending on the response.
+ */
+final class SessionPool {
+    private final Queue<Session> loggedIn = new ConcurrentLinkedQueue<>();
+    private final Queue<Session> loggedOut = new ConcurrentLinkedQueue<>();
+
+    // Prefers users without tokens, so logins after logouts keep the logged-in pool from draining.
+    Session acquire(final Operation operation) {
+        return switch (operation) {
+            case REGISTER -> null;
+            case LOGIN -> {
+                final Session session = loggedOut.poll();
+                yield session != null ? session : loggedIn.poll();
+            }
+            case REFRESH, AUTHENTICATE, LOGOUT -> loggedIn.poll();
+        };
+    }
+
+    void release(final Session session) {
+        if (session.getAccessToken() != null) {
+            loggedIn.add(session);
+        } else {
+            loggedOut.add(session);
+        }
+    }
+
+    int loggedInCount() {
+        return loggedIn.size();
+    }
+
+    static final class Session {
+        private final String email;
+        private final String password;
+        private String accessToken;
+        private String refreshToken;
+
+        Session(final String email, final String password) {
+            this.email = email;
+            this.password = password;
+        }
+
+        String getEmail() {
+            return email;
+        }
+
+        String getPassword() {
+            return password;
+        }
+
+        String getAccessToken() {
+            return accessToken;
+        }
+
+        String getRefreshToken() {
+            return refreshToken;
+        }
+
+        void loggedIn(final String accessToken, final String refreshToken) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+        }
+
+        void loggedOut() {
+            this.accessToken = null;
+            this.refreshToken = null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.userservice.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Relative weights of the operations, e.g. {@code register=5,login=15,refresh=20,authenticate=50,logout=10}.
+ */
+public final class TrafficMix {
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private TrafficMix(final Map<Operation, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(weights);
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+
+        int total = 0;
+        for (int index = 0; index < operations.length; index++) {
+            total += weights.get(operations[index]);
+            cumulativeWeights[index] = total;
+        }
+    }
+
+    @JsonCreator
+    public static TrafficMix of(final Map<Operation, Integer> weights) {
+        final Map<Operation, Integer> positiveWeights = new EnumMap<>(Operation.class);
+        weights.forEach((operation, weight) -> {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + operation + " must not be negative");
+            }
+            if (weight > 0) {
+                positiveWeights.put(operation, weight);
+            }
+        });
+
+        if (positiveWeights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must give at least one operation a positive weight");
+        }
+        return new TrafficMix(positiveWeights);
+    }
+
+    public static TrafficMix parse(final String value) {
+        final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+        for (String entry : value.split(",")) {
+            final String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in mix but got '" + entry + "'");
+            }
+
+            final Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            weights.put(operation, Integer.parseInt(parts[1].trim()));
+        }
+        return of(weights);
+    }
+
+    public Operation next(final Random random) {
+        final int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int index = 0; index < cumulativeWeights.length; index++) {
+            if (draw < cumulativeWeights[index]) {
+                return operations[index];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @JsonValue
+    public Map<Operation, Integer> getWeights() {
+        return weights;
+    }
+}
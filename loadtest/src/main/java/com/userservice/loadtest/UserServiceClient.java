@@ -0,0 +1,110 @@
+package com.userservice.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.userservice.loadtest.SessionPool.Session;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds the requests {@code UserController} expects and reads the tokens back out of its responses.
+ */
+final class UserServiceClient {
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String CONTENT_TYPE = "application/json";
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final Duration timeout;
+
+    UserServiceClient(final URI baseUrl, final Duration timeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    CompletableFuture<HttpResponse<String>> send(final HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    HttpRequest request(final Operation operation, final Session session) {
+        return switch (operation) {
+            case REGISTER -> post("/users/register", Map.of(
+                    "email", session.getEmail(),
+                    "password", session.getPassword(),
+                    "firstName", "Load",
+                    "lastName", "Test"));
+            case LOGIN -> post("/users/login", Map.of(
+                    "email", session.getEmail(),
+                    "password", session.getPassword()));
+            case REFRESH -> post("/users/refresh", Map.of("refreshToken", session.getRefreshToken()));
+            case AUTHENTICATE -> builder("/users/authenticate?token="
+                    + URLEncoder.encode(session.getAccessToken(), StandardCharsets.US_ASCII))
+                    .header("Authorization", "Bearer " + session.getAccessToken())
+                    .GET()
+                    .build();
+            case LOGOUT -> post("/users/logout", Map.of(
+                    "accessToken", session.getAccessToken(),
+                    "refreshToken", session.getRefreshToken()));
+        };
+    }
+
+    // Updates the session from a successful response; anything else leaves the user logged out.
+    static void apply(final Operation operation, final Session session, final HttpResponse<String> response) {
+        if (response == null || response.statusCode() != operation.getExpectedStatus()) {
+            session.loggedOut();
+            return;
+        }
+
+        switch (operation) {
+            case LOGIN, REFRESH -> {
+                final JsonNode token = readTree(response.body());
+                session.loggedIn(token.path("accessToken").asText(null), token.path("refreshToken").asText(null));
+            }
+            case LOGOUT -> session.loggedOut();
+            default -> {
+            }
+        }
+    }
+
+    private HttpRequest post(final String path, final Map<String, String> body) {
+        return builder(path)
+                .header("Content-Type", CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(write(new LinkedHashMap<>(body))))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(final String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Accept", CONTENT_TYPE);
+    }
+
+    private static String write(final Map<String, String> body) {
+        try {
+            return JSON.writeValueAsString(body);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static JsonNode readTree(final String body) {
+        try {
+            return JSON.readTree(body);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Unexpected response body: " + body, exception);
+        }
+    }
+}
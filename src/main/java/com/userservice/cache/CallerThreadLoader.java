@@ -0,0 +1,55 @@
+package com.userservice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Loads a missing entry on the calling thread, outside any lock. A synchronous Caffeine load runs inside
+ * {@code ConcurrentHashMap.compute}, which holds a monitor for the whole database round trip and pins the carrier
+ * of a virtual thread; here the map only holds a future for as long as it takes to insert it. Concurrent callers
+ * for the same key still wait on that one load instead of each querying the database.
+ */
+@UtilityClass
+public class CallerThreadLoader {
+
+    // A null value or a failed load completes the future that way, which Caffeine treats as "not cached". Errors
+    // are caught too: a future left incomplete would stay in the map and block every later caller for the key.
+    public <K, V> V get(final AsyncCache<K, V> cache, final K key, final Function<K, V> loader) {
+        final CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return join(cached);
+        }
+
+        final CompletableFuture<V> loading = new CompletableFuture<>();
+        final CompletableFuture<V> prior = cache.asMap().putIfAbsent(key, loading);
+        if (prior != null) {
+            return join(prior);
+        }
+
+        try {
+            final V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (Throwable throwable) {
+            loading.completeExceptionally(throwable);
+            throw throwable;
+        }
+    }
+
+    private <V> V join(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
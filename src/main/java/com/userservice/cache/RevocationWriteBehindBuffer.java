@@ -0,0 +1,270 @@
+package com.userservice.cache;
+
+import com.userservice.model.entity.InvalidTokenEntity;
+import com.userservice.utils.TimeOrderedUuidGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RevocationWriteBehindBuffer implements SmartLifecycle {
+    private static final String METRIC_PREFIX = "revocation.write.behind.";
+    private static final String INSERT_PREFIX =
+            "INSERT IGNORE INTO invalid_tokens (ID, TOKEN_ID, EXPIRES_AT, CREATED_AT) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+    private static final int COLUMNS = 4;
+
+    @Getter
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final int maxWriteAttempts;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<InvalidTokenEntity> queue;
+    private final Set<String> pendingTokenIds = ConcurrentHashMap.newKeySet();
+    private final List<InvalidTokenEntity> batch = new ArrayList<>();
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private final Counter flushedRows;
+    private final Counter rejectedRows;
+    private final Counter droppedRows;
+    private final Timer flushDuration;
+
+    private volatile boolean running;
+    private Thread flusher;
+    private int failedWrites;
+
+    public RevocationWriteBehindBuffer(
+            @Value("${auth.revocation.write-behind.enabled:false}") final boolean enabled,
+            @Value("${auth.revocation.write-behind.capacity:10000}") final int capacity,
+            @Value("${auth.revocation.write-behind.batch-size:500}") final int batchSize,
+            @Value("${auth.revocation.write-behind.flush-interval:PT0.2S}") final Duration flushInterval,
+            @Value("${auth.revocation.write-behind.max-write-attempts:3}") final int maxWriteAttempts,
+            final JdbcTemplate jdbcTemplate,
+            final MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        this.flushedRows = Counter.builder(METRIC_PREFIX + "flushed")
+                .description("Revocation rows written to invalid_tokens by the write-behind flusher")
+                .register(meterRegistry);
+        this.rejectedRows = Counter.builder(METRIC_PREFIX + "rejected")
+                .description("Revocations written synchronously because the write-behind queue was full")
+                .register(meterRegistry);
+        this.droppedRows = Counter.builder(METRIC_PREFIX + "dropped")
+                .description("Revocations that could not be written to invalid_tokens, even row by row")
+                .register(meterRegistry);
+        this.flushDuration = Timer.builder(METRIC_PREFIX + "flush")
+                .description("Time taken to write one write-behind batch to invalid_tokens")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "queue.size", queue, Collection::size)
+                .description("Revocations waiting to be written to invalid_tokens")
+                .register(meterRegistry);
+    }
+
+    // The token id is marked pending before it is queued, so a revocation check never falls between the
+    // buffer and the table. A full queue is the caller's signal to write synchronously instead. The running
+    // check and the enqueue happen under the lock stop() holds while draining, so an accepted row is always drained.
+    public boolean offer(final InvalidTokenEntity entity) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+
+            entity.setCreatedAt(Instant.now());
+            pendingTokenIds.add(entity.getTokenId());
+
+            if (!queue.offer(entity)) {
+                pendingTokenIds.remove(entity.getTokenId());
+                rejectedRows.increment();
+                return false;
+            }
+            return true;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    public boolean isPending(final String tokenId) {
+        return enabled && pendingTokenIds.contains(tokenId);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "revocation-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Revocation write-behind buffer started (batch size {}, flush interval {})",
+                batchSize, flushInterval);
+    }
+
+    // The flusher is not interrupted so a JDBC call is never cut off; it notices the flag within one
+    // flush interval. Whatever it leaves behind is written here before the data source is closed.
+    @Override
+    public void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+
+            running = false;
+            try {
+                flusher.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            queue.drainTo(batch);
+            final int remaining = batch.size();
+            for (int from = 0; from < batch.size(); from += batchSize) {
+                final List<InvalidTokenEntity> chunk = batch.subList(from, Math.min(batch.size(), from + batchSize));
+                if (!write(chunk)) {
+                    writeRowByRow(chunk);
+                }
+            }
+            batch.clear();
+            log.info("Revocation write-behind buffer drained {} revocations", remaining);
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the web server, so logouts accepted during graceful shutdown still reach the buffer.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                if (batch.isEmpty() && !collect()) {
+                    continue;
+                }
+                if (!write(batch) && ++failedWrites < maxWriteAttempts) {
+                    Thread.sleep(flushInterval.toMillis());
+                    continue;
+                }
+                if (failedWrites >= maxWriteAttempts) {
+                    writeRowByRow(batch);
+                }
+                failedWrites = 0;
+                batch.clear();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Waits up to one flush interval for the first row, then keeps collecting until the batch is full or the
+    // interval since that first row has passed.
+    private boolean collect() throws InterruptedException {
+        final InvalidTokenEntity first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+
+        final long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (running && batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            final long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+
+            final InvalidTokenEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+        return true;
+    }
+
+    // One multi-row statement per batch. INSERT IGNORE keeps a token revoked concurrently through the
+    // synchronous path from failing the rows around it.
+    private boolean write(final List<InvalidTokenEntity> rows) {
+        final StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        final Object[] arguments = new Object[rows.size() * COLUMNS];
+
+        int argument = 0;
+        for (InvalidTokenEntity row : rows) {
+            if (argument > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+            arguments[argument++] = TimeOrderedUuidGenerator.toBytes(TimeOrderedUuidGenerator.next());
+            arguments[argument++] = row.getTokenId();
+            arguments[argument++] = row.getExpiresAt() == null ? null : Timestamp.from(row.getExpiresAt());
+            arguments[argument++] = Timestamp.from(row.getCreatedAt());
+        }
+
+        try {
+            flushDuration.record(() -> jdbcTemplate.update(sql.toString(), arguments));
+        } catch (DataAccessException exception) {
+            log.warn("Revocation write-behind flush of {} rows failed", rows.size(), exception);
+            return false;
+        }
+
+        rows.forEach(row -> pendingTokenIds.remove(row.getTokenId()));
+        flushedRows.increment(rows.size());
+        return true;
+    }
+
+    // A batch that keeps failing is split so one bad row cannot hold back the rows queued behind it. Rows that
+    // still fail on their own are dropped and stop being reported as pending.
+    private void writeRowByRow(final List<InvalidTokenEntity> rows) {
+        int dropped = 0;
+        for (InvalidTokenEntity row : rows) {
+            if (!write(List.of(row))) {
+                pendingTokenIds.remove(row.getTokenId());
+                dropped++;
+            }
+        }
+
+        if (dropped > 0) {
+            droppedRows.increment(dropped);
+            log.error("Revocation write-behind dropped {} of {} revocations that could not be persisted",
+                    dropped, rows.size());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.userservice.cache;
+
+import com.userservice.repository.InvalidTokenRepository;
+import com.userservice.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class RevokedTokenFilter {
+    private static final String METRIC_PREFIX = "revocation.bloom.";
+
+    @Getter
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final InvalidTokenRepository invalidTokenRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final Timer rebuildTimer;
+    private final Counter negativeChecks;
+    private final Counter positiveChecks;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile Set<String> journal = ConcurrentHashMap.newKeySet();
+
+    public RevokedTokenFilter(
+            @Value("${auth.revocation.bloom-filter.enabled:false}") final boolean enabled,
+            @Value("${auth.revocation.bloom-filter.expected-insertions:100000}") final long expectedInsertions,
+            @Value("${auth.revocation.bloom-filter.false-positive-probability:0.001}")
+            final double falsePositiveProbability,
+            @Value("${auth.revocation.feed.enabled:false}") final boolean feedEnabled,
+            final InvalidTokenRepository invalidTokenRepository,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        // A negative answer skips the invalid_tokens lookup, so every instance's filter must learn about revocations
+        // made elsewhere; without the change feed that only happens at the next rebuild.
+        if (enabled && !feedEnabled) {
+            throw new IllegalStateException(
+                    "auth.revocation.bloom-filter.enabled requires auth.revocation.feed.enabled");
+        }
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.rebuildTimer = Timer.builder(METRIC_PREFIX + "rebuild")
+                .description("Time taken to rebuild the revoked token Bloom filter from invalid_tokens")
+                .register(meterRegistry);
+        this.negativeChecks = checkCounter(meterRegistry, "negative");
+        this.positiveChecks = checkCounter(meterRegistry, "positive");
+        gauge(meterRegistry, "entries", BloomFilter::getInsertions);
+        gauge(meterRegistry, "size.bytes", BloomFilter::getSizeInBytes);
+        gauge(meterRegistry, "false.positive.probability", BloomFilter::getExpectedFalsePositiveProbability);
+    }
+
+    public boolean mightContain(final String tokenId) {
+        if (!enabled) {
+            return true;
+        }
+
+        final BloomFilter current = bloomFilter;
+
+        if (current == null || current.mightContain(tokenId)) {
+            positiveChecks.increment();
+            return true;
+        }
+        negativeChecks.increment();
+        return false;
+    }
+
+    public void put(final String tokenId) {
+        if (!enabled) {
+            return;
+        }
+
+        rebuildLock.readLock().lock();
+        try {
+            journal.add(tokenId);
+            final BloomFilter current = bloomFilter;
+            if (current != null) {
+                current.put(tokenId);
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${auth.revocation.bloom-filter.rebuild-interval:PT1H}",
+            fixedDelayString = "${auth.revocation.bloom-filter.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // Ids put while the table is being read may not be committed yet, so every id recorded since the previous
+    // rebuild started is replayed into the new filter before it replaces the old one.
+    private void rebuild() {
+        final Set<String> previousJournal;
+        rebuildLock.writeLock().lock();
+        try {
+            previousJournal = journal;
+            journal = ConcurrentHashMap.newKeySet();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+
+        final BloomFilter rebuilt = rebuildTimer.record(this::loadFromDatabase);
+
+        rebuildLock.writeLock().lock();
+        try {
+            previousJournal.forEach(rebuilt::put);
+            journal.forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        log.info("Revoked token filter rebuilt with {} entries ({} bytes)",
+                rebuilt.getInsertions(), rebuilt.getSizeInBytes());
+    }
+
+    private BloomFilter loadFromDatabase() {
+        final Instant now = Instant.now();
+
+        return readOnlyTransaction.execute(status -> {
+            final long activeTokens = invalidTokenRepository.countTokensExpiringAfter(now);
+            final BloomFilter loaded = new BloomFilter(
+                    Math.max(expectedInsertions, activeTokens * 2), falsePositiveProbability);
+
+            try (Stream<String> tokenIds = invalidTokenRepository.streamTokenIdsExpiringAfter(now)) {
+                tokenIds.forEach(loaded::put);
+            }
+            return loaded;
+        });
+    }
+
+    private Counter checkCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder(METRIC_PREFIX + "checks")
+                .description("Revocation checks answered by the Bloom filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void gauge(final MeterRegistry meterRegistry, final String name,
+                       final ToDoubleFunction<BloomFilter> value) {
+        Gauge.builder(METRIC_PREFIX + name, this,
+                        filter -> filter.bloomFilter == null ? 0 : value.applyAsDouble(filter.bloomFilter))
+                .register(meterRegistry);
+    }
+}
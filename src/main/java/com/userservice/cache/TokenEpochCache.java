@@ -0,0 +1,52 @@
+package com.userservice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.userservice.repository.UserTokenEpochRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenEpochCache {
+    private static final String CACHE_NAME = "tokenEpochs";
+
+    private final UserTokenEpochRepository userTokenEpochRepository;
+    private final AsyncCache<String, Long> cache;
+
+    public TokenEpochCache(
+            @Value("${auth.token-epoch.cache.maximum-size:10000}") final long maximumSize,
+            @Value("${auth.token-epoch.cache.expire-after-write:PT5S}") final Duration expireAfterWrite,
+            final UserTokenEpochRepository userTokenEpochRepository,
+            final MeterRegistry meterRegistry
+    ) {
+        this.userTokenEpochRepository = userTokenEpochRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // Users without a row have never been revoked in bulk and sit at epoch 0.
+    public long get(final String userId) {
+        return CallerThreadLoader.get(cache, userId,
+                key -> userTokenEpochRepository.findEpochByUserId(UUID.fromString(key)).orElse(0L));
+    }
+
+    // Same entries for the reactive endpoints: a miss starts the loader once and concurrent callers share it.
+    public CompletableFuture<Long> get(final String userId, final Function<String, CompletableFuture<Long>> loader) {
+        return cache.get(userId, (key, executor) -> loader.apply(key));
+    }
+
+    public void invalidate(final String userId) {
+        cache.synchronous().invalidate(userId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.userservice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.userservice.model.UserSnapshot;
+import com.userservice.repository.UserRepository;
+import com.userservice.utils.EmailNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class UserSnapshotCache {
+    private static final String BY_ID_CACHE_NAME = "usersById";
+    private static final String BY_EMAIL_CACHE_NAME = "usersByEmail";
+
+    private final UserRepository userRepository;
+    private final AsyncCache<UUID, UserSnapshot> byId;
+    private final AsyncCache<String, UserSnapshot> byEmail;
+
+    public UserSnapshotCache(
+            @Value("${auth.user-cache.enabled:true}") final boolean enabled,
+            @Value("${auth.user-cache.maximum-size:10000}") final long maximumSize,
+            @Value("${auth.user-cache.expire-after-write:PT30S}") final Duration expireAfterWrite,
+            final UserRepository userRepository,
+            final MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+
+        if (!enabled) {
+            this.byId = null;
+            this.byEmail = null;
+            return;
+        }
+
+        this.byId = newCache(maximumSize, expireAfterWrite);
+        this.byEmail = newCache(maximumSize, expireAfterWrite);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, BY_ID_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, BY_EMAIL_CACHE_NAME);
+        log.info("User snapshot cache enabled with maximum size {} and TTL {}", maximumSize, expireAfterWrite);
+    }
+
+    // Misses that find no user are not cached, so a registration is visible on the next lookup.
+    public Optional<UserSnapshot> findById(final UUID userId) {
+        if (byId == null) {
+            return userRepository.findSnapshotById(userId);
+        }
+        return Optional.ofNullable(CallerThreadLoader.get(byId, userId,
+                key -> userRepository.findSnapshotById(key).orElse(null)));
+    }
+
+    // A loader completing with null, i.e. no such user, is not cached either.
+    public CompletableFuture<UserSnapshot> findById(final UUID userId,
+                                                    final Function<UUID, CompletableFuture<UserSnapshot>> loader) {
+        if (byId == null) {
+            return loader.apply(userId);
+        }
+        return byId.get(userId, (key, executor) -> loader.apply(key));
+    }
+
+    public Optional<UserSnapshot> findByEmail(final String rawEmail) {
+        final String email = EmailNormalizer.normalize(rawEmail);
+        if (byEmail == null) {
+            return userRepository.findSnapshotByEmail(email);
+        }
+        return Optional.ofNullable(CallerThreadLoader.get(byEmail, email,
+                key -> userRepository.findSnapshotByEmail(key).orElse(null)));
+    }
+
+    public void invalidate(final UUID userId, final String email) {
+        if (byId == null) {
+            return;
+        }
+        if (userId != null) {
+            byId.synchronous().invalidate(userId);
+        }
+        if (email != null) {
+            byEmail.synchronous().invalidate(EmailNormalizer.normalize(email));
+        }
+    }
+
+    private static <K> AsyncCache<K, UserSnapshot> newCache(final long maximumSize,
+                                                            final Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+}
@@ -0,0 +1,94 @@
+package com.userservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.userservice.model.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+    private static final String CACHE_NAME = "verifiedTokens";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${auth.token-cache.enabled:false}") final boolean enabled,
+            @Value("${auth.token-cache.maximum-size:10000}") final long maximumSize,
+            final MeterRegistry meterRegistry
+    ) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Verified token cache enabled with maximum size {}", maximumSize);
+    }
+
+    public VerifiedToken get(final String jwt, final Function<String, VerifiedToken> verifier) {
+        if (cache == null) {
+            return verifier.apply(jwt);
+        }
+
+        final VerifiedToken verifiedToken = cache.get(digest(jwt), key -> verifier.apply(jwt));
+
+        if (!verifiedToken.getToken().equals(jwt)) {
+            return verifier.apply(jwt);
+        }
+        return verifiedToken;
+    }
+
+    private static String digest(final String jwt) {
+        return HexFormat.of().formatHex(DIGEST.get().digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedToken value, final long currentTime) {
+            final Duration timeToLive = Duration.between(Instant.now(), value.getExpiresAt());
+            return timeToLive.isNegative() ? 0 : timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedToken value, final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedToken value, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.userservice.codec;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class JtiGenerator {
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long VERSION_4 = 0x0000000000004000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    // A jti only has to be unique, not secret (the token is signed), so the per-thread generator is used
+    // instead of UUID.randomUUID(), which serializes every caller on the shared SecureRandom.
+    public String nextId() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long mostSignificantBits = (random.nextLong() & VERSION_MASK) | VERSION_4;
+        final long leastSignificantBits = (random.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+}
@@ -0,0 +1,9 @@
+package com.userservice.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+@FunctionalInterface
+public interface PayloadWriter {
+    void write(final JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,156 @@
+package com.userservice.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.userservice.config.TokenConfig;
+import com.userservice.model.enums.TokenClaims;
+import com.userservice.model.enums.TokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAKey;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenCodec {
+    private static final byte SEPARATOR = '.';
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ThreadLocal<ByteArrayBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new ByteArrayBuilder(INITIAL_BUFFER_SIZE));
+
+    @Getter
+    private final String algorithm;
+    private final byte[] encodedHeader;
+    private final JwtParser parser;
+    private final ThreadLocal<Signature> signer;
+
+    public TokenCodec(final TokenConfig tokenConfig) {
+        final PrivateKey privateKey = tokenConfig.getPrivateKey();
+        final RsaAlgorithm rsaAlgorithm = RsaAlgorithm.forKey(privateKey);
+
+        this.algorithm = rsaAlgorithm.name();
+        this.encodedHeader = encode(headerOf(rsaAlgorithm));
+        this.parser = Jwts.parser()
+                .verifyWith(tokenConfig.getPublicKey())
+                .build();
+        this.signer = ThreadLocal.withInitial(() -> newSigner(rsaAlgorithm, privateKey));
+    }
+
+    public String sign(final Map<String, Object> payload) {
+        return sign(generator -> generator.writeObject(payload));
+    }
+
+    public String sign(final PayloadWriter payloadWriter) {
+        final byte[] encodedPayload = BASE64_URL_ENCODER.encode(serialize(payloadWriter));
+        final byte[] encodedSignature = BASE64_URL_ENCODER.encode(signatureOf(encodedPayload));
+
+        final byte[] token = new byte[encodedHeader.length + encodedPayload.length + encodedSignature.length + 2];
+        int position = copy(encodedHeader, token, 0);
+        token[position++] = SEPARATOR;
+        position = copy(encodedPayload, token, position);
+        token[position++] = SEPARATOR;
+        copy(encodedSignature, token, position);
+
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    public Jws<Claims> parse(final String jwt) {
+        return parser.parseSignedClaims(jwt);
+    }
+
+    private byte[] signatureOf(final byte[] encodedPayload) {
+        final Signature signature = signer.get();
+        try {
+            signature.update(encodedHeader);
+            signature.update(SEPARATOR);
+            signature.update(encodedPayload);
+            return signature.sign();
+        } catch (GeneralSecurityException exception) {
+            signer.remove();
+            throw new IllegalStateException("Unable to sign token", exception);
+        }
+    }
+
+    private static byte[] serialize(final PayloadWriter payloadWriter) {
+        final ByteArrayBuilder buffer = BUFFER.get();
+        buffer.reset();
+        try (JsonGenerator generator = JSON_MAPPER.createGenerator(buffer)) {
+            payloadWriter.write(generator);
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Unable to serialize token payload", exception);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static int copy(final byte[] source, final byte[] target, final int position) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+
+    private static Map<String, Object> headerOf(final RsaAlgorithm rsaAlgorithm) {
+        final Map<String, Object> header = new LinkedHashMap<>();
+        header.put(TokenClaims.TYP.getValue(), TokenType.BEARER.getValue());
+        header.put(TokenClaims.ALGORITHM.getValue(), rsaAlgorithm.name());
+        return header;
+    }
+
+    private static byte[] encode(final Map<String, Object> json) {
+        try {
+            return BASE64_URL_ENCODER.encode(JSON_MAPPER.writeValueAsBytes(json));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("Unable to serialize token header", exception);
+        }
+    }
+
+    private static Signature newSigner(final RsaAlgorithm rsaAlgorithm, final PrivateKey privateKey) {
+        try {
+            final Signature signature = Signature.getInstance(rsaAlgorithm.getJcaName());
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to initialize token signer", exception);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private enum RsaAlgorithm {
+        RS256("SHA256withRSA", 2048),
+        RS384("SHA384withRSA", 3072),
+        RS512("SHA512withRSA", 4096);
+
+        private final String jcaName;
+        private final int preferredKeyBitLength;
+
+        // Mirrors the algorithm jjwt's signWith(key) picks for an RSA key, so minted tokens stay unchanged.
+        private static RsaAlgorithm forKey(final PrivateKey privateKey) {
+            if (!(privateKey instanceof RSAKey rsaKey)) {
+                throw new IllegalStateException("Token signing key must be an RSA key: " + privateKey.getAlgorithm());
+            }
+
+            final int bitLength = rsaKey.getModulus().bitLength();
+            RsaAlgorithm selected = RS256;
+            for (RsaAlgorithm candidate : values()) {
+                if (bitLength >= candidate.preferredKeyBitLength) {
+                    selected = candidate;
+                }
+            }
+            return selected;
+        }
+    }
+}
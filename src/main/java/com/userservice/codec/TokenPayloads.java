@@ -0,0 +1,98 @@
+package com.userservice.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.userservice.model.UserClaims;
+import com.userservice.model.enums.TokenClaims;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class TokenPayloads {
+    private static final SerializableString JWT_ID = name(TokenClaims.JWT_ID);
+    private static final SerializableString ISSUED_AT = name(TokenClaims.ISSUED_AT);
+    private static final SerializableString EXPIRES_AT = name(TokenClaims.EXPIRES_AT);
+    private static final SerializableString USER_ID = name(TokenClaims.USER_ID);
+    private static final SerializableString USER_EMAIL = name(TokenClaims.USER_EMAIL);
+    private static final SerializableString USER_TYPE = name(TokenClaims.USER_TYPE);
+    private static final SerializableString USER_STATUS = name(TokenClaims.USER_STATUS);
+    private static final SerializableString USER_FIRST_NAME = name(TokenClaims.USER_FIRST_NAME);
+    private static final SerializableString USER_LAST_NAME = name(TokenClaims.USER_LAST_NAME);
+    private static final SerializableString TOKEN_EPOCH = name(TokenClaims.TOKEN_EPOCH);
+
+    private static final Map<UserType, SerializableString> USER_TYPES = values(UserType.class);
+    private static final Map<UserStatus, SerializableString> USER_STATUSES = values(UserStatus.class);
+
+    public PayloadWriter accessToken(final String tokenId, final long issuedAt, final long expiresAt,
+                                     final UserClaims claims) {
+        return generator -> {
+            generator.writeStartObject();
+            writeRegisteredClaims(generator, tokenId, issuedAt, expiresAt);
+            writeString(generator, USER_ID, claims.userId());
+            writeString(generator, USER_EMAIL, claims.email());
+            writeValue(generator, USER_TYPE, USER_TYPES.get(claims.userType()));
+            writeValue(generator, USER_STATUS, USER_STATUSES.get(claims.userStatus()));
+            writeString(generator, USER_FIRST_NAME, claims.firstName());
+            writeString(generator, USER_LAST_NAME, claims.lastName());
+            generator.writeFieldName(TOKEN_EPOCH);
+            generator.writeNumber(claims.tokenEpoch());
+            generator.writeEndObject();
+        };
+    }
+
+    public PayloadWriter refreshToken(final String tokenId, final long issuedAt, final long expiresAt,
+                                      final String userId, final long tokenEpoch) {
+        return generator -> {
+            generator.writeStartObject();
+            writeRegisteredClaims(generator, tokenId, issuedAt, expiresAt);
+            writeString(generator, USER_ID, userId);
+            generator.writeFieldName(TOKEN_EPOCH);
+            generator.writeNumber(tokenEpoch);
+            generator.writeEndObject();
+        };
+    }
+
+    private void writeRegisteredClaims(final JsonGenerator generator, final String tokenId, final long issuedAt,
+                                       final long expiresAt) throws IOException {
+        generator.writeFieldName(JWT_ID);
+        generator.writeString(tokenId);
+        generator.writeFieldName(ISSUED_AT);
+        generator.writeNumber(issuedAt);
+        generator.writeFieldName(EXPIRES_AT);
+        generator.writeNumber(expiresAt);
+    }
+
+    // Null claims are omitted, as jjwt's builder did.
+    private void writeString(final JsonGenerator generator, final SerializableString name, final String value)
+            throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+
+    private void writeValue(final JsonGenerator generator, final SerializableString name,
+                            final SerializableString value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+
+    private SerializableString name(final TokenClaims claim) {
+        return new SerializedString(claim.getValue());
+    }
+
+    private <E extends Enum<E>> Map<E, SerializableString> values(final Class<E> type) {
+        final Map<E, SerializableString> values = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            values.put(constant, new SerializedString(constant.name()));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,67 @@
+package com.userservice.config;
+
+import com.userservice.model.enums.BCryptCalibration;
+import com.userservice.security.AuthStageMetrics;
+import com.userservice.security.BCryptStrengthCalibrator;
+import com.userservice.security.BulkheadPasswordEncoder;
+import com.userservice.security.CostAwareBCryptPasswordEncoder;
+import com.userservice.security.PasswordHashingBulkhead;
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+
+    @Bean
+    @Primary
+    public PasswordEncoder passwordEncoder(
+            final PasswordHashingBulkhead passwordHashingBulkhead,
+            final AuthStageMetrics authStageMetrics,
+            @Qualifier("hashingPasswordEncoder") final PasswordEncoder hashingPasswordEncoder
+    ) {
+        return new BulkheadPasswordEncoder(hashingPasswordEncoder, passwordHashingBulkhead, authStageMetrics);
+    }
+
+    // Unbounded encoder for callers that bring their own pool, such as the bulk import. The configured strength is
+    // meant to be the same on every instance; calibration only recommends a value for it unless told to apply it.
+    @Bean
+    public PasswordEncoder hashingPasswordEncoder(
+            @Value("${auth.password-hashing.bcrypt.strength:10}") final int strength,
+            @Value("${auth.password-hashing.bcrypt.calibration:RECOMMEND}") final BCryptCalibration calibration,
+            @Value("${auth.password-hashing.bcrypt.target-duration:PT0.05S}") final Duration targetDuration,
+            @Value("${auth.password-hashing.bcrypt.minimum-strength:10}") final int minimumStrength
+    ) {
+        final CostAwareBCryptPasswordEncoder bcrypt = switch (calibration) {
+            case OFF -> new CostAwareBCryptPasswordEncoder(strength, true);
+            case RECOMMEND -> {
+                final int recommended = BCryptStrengthCalibrator.calibrate(targetDuration, minimumStrength);
+                if (recommended != strength) {
+                    log.info("BCrypt strength is {}; this host meets the {} ms target at {}, set "
+                            + "auth.password-hashing.bcrypt.strength on every instance to change it",
+                            strength, targetDuration.toMillis(), recommended);
+                }
+                yield new CostAwareBCryptPasswordEncoder(strength, true);
+            }
+            case APPLY -> new CostAwareBCryptPasswordEncoder(
+                    BCryptStrengthCalibrator.calibrate(targetDuration, minimumStrength), false);
+        };
+
+        // Hashes stored before the {bcrypt} prefix was introduced are still verified as BCrypt and get the prefix
+        // the next time the user logs in.
+        final DelegatingPasswordEncoder delegatingPasswordEncoder =
+                new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return delegatingPasswordEncoder;
+    }
+}
@@ -1,8 +1,11 @@
 package com.userservice.config;
 
 import com.userservice.filter.CustomBearerAuthFilter;
+import com.userservice.filter.ServerTimingFilter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,17 +15,17 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistryImpl;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.session.RegisterSessionAuthenticationStrategy;
 import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.header.HeaderWriterFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
@@ -35,22 +38,34 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(
             final HttpSecurity httpSecurity,
-            final CustomBearerAuthFilter customBearerTokenAuthFilter
+            final CustomBearerAuthFilter customBearerTokenAuthFilter,
+            final ObjectProvider<ServerTimingFilter> serverTimingFilterProvider
     ) throws Exception {
         httpSecurity
                 .cors(customizer -> customizer.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(customizer -> customizer
+                        .requestMatchers(HttpMethod.POST, "/users/logout-all", "/users/import").authenticated()
                         .requestMatchers(HttpMethod.POST, "/users/**").permitAll()
                         .requestMatchers("/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/swagger-resources/**",
                                 "/swagger-ui.html").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus", "/actuator/metrics/**")
+                        .hasAuthority("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(
                         session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(customBearerTokenAuthFilter, BearerTokenAuthenticationFilter.class);
+
+        // Ahead of the header writer, so the timings are still open when it writes headers on commit.
+        final ServerTimingFilter serverTimingFilter = serverTimingFilterProvider.getIfAvailable();
+        if (serverTimingFilter != null) {
+            httpSecurity
+                    .headers(headers -> headers.addHeaderWriter(serverTimingFilter))
+                    .addFilterBefore(serverTimingFilter, HeaderWriterFilter.class);
+        }
         return httpSecurity.build();
     }
 
@@ -63,9 +78,4 @@ public class SecurityConfig {
         source.registerCorsConfiguration("/**", configuration);
         return source;
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
@@ -11,7 +11,6 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class TokenConfig {
 
-
     @Value("${auth.access-token-expire-minutes:30}")
     private int accessTokenExpireMinutes;
 
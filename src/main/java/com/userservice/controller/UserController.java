@@ -5,21 +5,38 @@ import com.userservice.model.dto.request.TokenInvalidateRequest;
 import com.userservice.model.dto.request.TokenRefreshRequest;
 import com.userservice.model.dto.request.UserLoginRequest;
 import com.userservice.model.dto.request.UserRegisterRequest;
+import com.userservice.model.dto.request.UserStatusUpdateRequest;
+import com.userservice.model.dto.response.UserImportSummary;
+import com.userservice.model.enums.TokenClaims;
+import com.userservice.model.enums.UserImportFormat;
 import com.userservice.service.RefreshTokenService;
 import com.userservice.service.TokenService;
+import com.userservice.service.UserImportService;
 import com.userservice.service.UserLoginService;
 import com.userservice.service.UserLogoutService;
 import com.userservice.service.UserRegisterService;
+import com.userservice.service.UserStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,6 +47,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "User Management",
         description = "Endpoints for user registration, login, authentication, and token management")
 public class UserController {
@@ -38,11 +56,13 @@ public class UserController {
     private final RefreshTokenService refreshTokenService;
     private final UserLogoutService userLogoutService;
     private final TokenService tokenService;
+    private final UserStatusService userStatusService;
+    private final UserImportService userImportService;
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user", description = "Registers a new user in the system.")
     public ResponseEntity<Void> registerUser(@RequestBody @Validated final UserRegisterRequest request) {
-        log.info("Received user registration request for email: {}", request.getEmail());
+        log.debug("Received user registration request for email: {}", request.getEmail());
 
         userRegisterService.registerUser(request);
 
@@ -53,7 +73,7 @@ public class UserController {
     @PostMapping("/login")
     @Operation(summary = "User login", description = "Authenticates a user and returns a JWT amd refresh tokens.")
     public ResponseEntity<Token> login(@RequestBody @Valid final UserLoginRequest request) {
-        log.info("User attempting login: {}", request.email());
+        log.debug("User attempting login: {}", request.email());
 
         Token token = userLoginService.login(request);
 
@@ -64,7 +84,7 @@ public class UserController {
     @PostMapping("/refresh")
     @Operation(summary = "Refresh access token", description = "Refreshes the JWT token using a refresh token.")
     public ResponseEntity<Token> refresh(@RequestBody @Valid final TokenRefreshRequest request) {
-        log.info("Token refresh request received");
+        log.debug("Token refresh request received");
 
         Token newToken = refreshTokenService.refreshToken(request);
 
@@ -75,7 +95,7 @@ public class UserController {
     @PostMapping("/logout")
     @Operation(summary = "User logout", description = "Invalidates the user's token to log out.")
     public ResponseEntity<Void> logout(@RequestBody @Valid TokenInvalidateRequest request) {
-        log.info("Logout request received for token: {}", request.accessToken());
+        log.debug("Logout request received");
 
         userLogoutService.logout(request);
 
@@ -83,6 +103,51 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    @PostMapping("/logout-all")
+    @Operation(summary = "Logout from all sessions",
+            description = "Invalidates every access and refresh token issued to the authenticated user.")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal final Jwt jwt) {
+        final String userId = jwt.getClaimAsString(TokenClaims.USER_ID.getValue());
+        log.debug("Logout from all sessions request received for user ID: {}", userId);
+
+        userLogoutService.logoutAll(userId);
+
+        log.info("User successfully logged out from all sessions.");
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
+    @PatchMapping("/{userId}/status")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Update user status",
+            description = "Changes a user's status. Any status other than ACTIVE revokes the user's tokens.")
+    public ResponseEntity<Void> updateUserStatus(@PathVariable final UUID userId,
+                                                 @RequestBody @Valid final UserStatusUpdateRequest request) {
+        log.debug("User status update request received for user ID: {}", userId);
+
+        userStatusService.updateUserStatus(userId, request);
+
+        log.info("User status successfully updated for user ID: {}", userId);
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, UserImportFormat.CSV_VALUE})
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Import users",
+            description = "Registers users from an NDJSON or CSV upload and streams back one NDJSON result per "
+                    + "record, followed by a summary line.")
+    public void importUsers(final HttpServletRequest request,
+                            final HttpServletResponse response) throws IOException {
+        final UserImportFormat format = UserImportFormat.of(MediaType.parseMediaType(request.getContentType()));
+        log.info("User import request received in {} format", format);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        final UserImportSummary summary =
+                userImportService.importUsers(request.getInputStream(), format, response.getOutputStream());
+
+        log.info("User import completed: {} of {} records created", summary.created(), summary.total());
+    }
+
     @GetMapping("/ping")
     @Operation(summary = "Ping API", description = "Returns 'pong' to check API status.")
     public ResponseEntity<String> pong() {
@@ -96,7 +161,7 @@ public class UserController {
     @GetMapping("/authenticate")
     @Operation(summary = "Receive authenticate user", description = "Returns authentication details from a JWT token.")
     public ResponseEntity<UsernamePasswordAuthenticationToken> getAuthentication(@RequestParam String token) {
-        log.info("Authentication request received for token.");
+        log.debug("Authentication request received for token.");
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(tokenService.getAuthentication(token));
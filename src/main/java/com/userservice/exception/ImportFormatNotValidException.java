@@ -0,0 +1,15 @@
+package com.userservice.exception;
+
+public class ImportFormatNotValidException extends RuntimeException {
+    public static final String DEFAULT_MESSAGE = """
+            Invalid import format!
+            """;
+
+    public ImportFormatNotValidException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public ImportFormatNotValidException(final String message) {
+        super(DEFAULT_MESSAGE + " " + message);
+    }
+}
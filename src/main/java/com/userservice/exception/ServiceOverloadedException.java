@@ -0,0 +1,18 @@
+package com.userservice.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    public static final String DEFAULT_MESSAGE = """
+            Service is temporarily overloaded, please retry later!
+            """;
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(final Duration retryAfter) {
+        super(DEFAULT_MESSAGE);
+        this.retryAfter = retryAfter;
+    }
+}
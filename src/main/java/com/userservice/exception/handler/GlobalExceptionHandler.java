@@ -1,30 +1,48 @@
 package com.userservice.exception.handler;
 
+import com.userservice.exception.ImportFormatNotValidException;
 import com.userservice.exception.PasswordNotValidException;
+import com.userservice.exception.ServiceOverloadedException;
 import com.userservice.exception.TokenAlreadyInvalidatedException;
 import com.userservice.exception.UserAlreadyExistException;
 import com.userservice.exception.UserNotFoundException;
 import com.userservice.exception.UserStatusNotValidException;
 import java.util.ArrayList;
 import java.util.List;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final String DEFAULT_MESSAGE = "Validation failed";
+    private static final String DATABASE_ERROR_MESSAGE = "The request could not be completed";
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<Object> handleMethodArgumentNotValid(final MethodArgumentNotValidException ex) {
+        return validationError(ex.getBindingResult());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    protected ResponseEntity<Object> handleWebExchangeBind(final WebExchangeBindException ex) {
+        return validationError(ex.getBindingResult());
+    }
+
+    private ResponseEntity<Object> validationError(final BindingResult bindingResult) {
 
         List<CustomError.CustomSubError> subErrors = new ArrayList<>();
 
-        ex.getBindingResult().getAllErrors().forEach(
+        bindingResult.getAllErrors().forEach(
                 error -> {
                     String fieldName = ((FieldError) error).getField();
                     String message = error.getDefaultMessage();
@@ -57,6 +75,43 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(customError, HttpStatus.NOT_FOUND);
     }
 
+    // The SQL and constraint details stay in the server log.
+    @ExceptionHandler(DataAccessException.class)
+    protected ResponseEntity<Object> handleDataAccessException(final DataAccessException ex) {
+        CustomError customError = CustomError.builder()
+                .httpStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+                .header(CustomError.Header.DATABASE_ERROR.getName())
+                .message(DATABASE_ERROR_MESSAGE)
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    protected ResponseEntity<Object> handleAccessDeniedException(final AccessDeniedException ex) {
+        CustomError customError = CustomError.builder()
+                .httpStatus(HttpStatus.FORBIDDEN)
+                .header(CustomError.Header.API_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return new ResponseEntity<>(customError, HttpStatus.FORBIDDEN);
+    }
+
+    @ExceptionHandler(ImportFormatNotValidException.class)
+    protected ResponseEntity<Object> handleImportFormatNotValidException(final ImportFormatNotValidException ex) {
+        CustomError customError = CustomError.builder()
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        // Raised from a streaming endpoint that has already set its own content type.
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(customError);
+    }
+
     @ExceptionHandler(PasswordNotValidException.class)
     protected ResponseEntity<Object> handlePasswordNotValidException(final PasswordNotValidException ex) {
         CustomError customError = CustomError.builder()
@@ -68,6 +123,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(customError, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    protected ResponseEntity<Object> handleServiceOverloadedException(final ServiceOverloadedException ex) {
+        CustomError customError = CustomError.builder()
+                .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(CustomError.Header.PROCESS_ERROR.getName())
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(customError);
+    }
+
     @ExceptionHandler(TokenAlreadyInvalidatedException.class)
     protected ResponseEntity<Object> handleTokenAlreadyInvalidatedException(final TokenAlreadyInvalidatedException ex) {
         CustomError customError = CustomError.builder()
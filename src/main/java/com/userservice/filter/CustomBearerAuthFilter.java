@@ -1,7 +1,12 @@
 package com.userservice.filter;
 
 import com.userservice.model.Token;
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.enums.AuthOutcome;
+import com.userservice.model.enums.AuthStage;
+import com.userservice.security.AuthStageMetrics;
 import com.userservice.service.InvalidTokenService;
+import com.userservice.service.TokenEpochService;
 import com.userservice.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,6 +15,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,9 +24,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CustomBearerAuthFilter extends OncePerRequestFilter {
     private final TokenService tokenService;
     private final InvalidTokenService invalidTokenService;
+    private final TokenEpochService tokenEpochService;
+    private final AuthStageMetrics authStageMetrics;
 
     @Override
     protected void doFilterInternal(
@@ -28,20 +37,22 @@ public class CustomBearerAuthFilter extends OncePerRequestFilter {
             @NonNull final HttpServletResponse response,
             @NonNull final FilterChain filterChain) throws ServletException, IOException {
 
+        final long startedAt = System.nanoTime();
         final String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 
         if (Token.isBearerToken(authorizationHeader)) {
 
             final String jwt = Token.getJwtFromHeader(authorizationHeader);
+            authStageMetrics.record(AuthStage.HEADER_EXTRACTION, startedAt, AuthOutcome.OK);
 
-            tokenService.verifyAndValidate(jwt);
+            final VerifiedToken verifiedToken = tokenService.verifyAndValidate(jwt);
 
-            final String tokenId = tokenService.getId(jwt);
+            invalidTokenService.checkForInvalidityOfToken(verifiedToken.getId());
 
-            invalidTokenService.checkForInvalidityOfToken(tokenId);
+            tokenEpochService.checkTokenEpoch(verifiedToken);
 
             final UsernamePasswordAuthenticationToken authentication = tokenService
-                    .getAuthentication(jwt);
+                    .getAuthentication(verifiedToken);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -0,0 +1,84 @@
+package com.userservice.filter;
+
+import com.userservice.logging.RequestLogSampling;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Keeps the logs below WARN of one in every {@code logging.sampling.rate} requests, counted per endpoint so quiet
+ * endpoints are sampled as evenly as busy ones. Endpoints are the route patterns in {@code logging.sampling.endpoints},
+ * matched before dispatch; requests matching none of them share one counter.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "logging.sampling.enabled", havingValue = "true")
+public class LogSamplingFilter extends OncePerRequestFilter {
+    // Fixed at startup, so neither path variables nor scanners can add counters.
+    private final Map<PathPattern, AtomicLong> requestCounts = new LinkedHashMap<>();
+    private final AtomicLong otherRequests = new AtomicLong();
+    private final int rate;
+
+    public LogSamplingFilter(
+            @Value("${logging.sampling.rate:100}") final int rate,
+            @Value("${logging.sampling.endpoints:}") final List<String> endpoints
+    ) {
+        this.rate = Math.max(rate, 1);
+        endpoints.stream()
+                .filter(endpoint -> !endpoint.isBlank())
+                .map(endpoint -> PathPatternParser.defaultInstance.parse(endpoint.strip()))
+                .sorted(PathPattern.SPECIFICITY_COMPARATOR)
+                .forEach(pattern -> requestCounts.put(pattern, new AtomicLong()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull final HttpServletRequest request,
+            @NonNull final HttpServletResponse response,
+            @NonNull final FilterChain filterChain) throws ServletException, IOException {
+
+        if (requestCount(request).getAndIncrement() % rate == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MDC.put(RequestLogSampling.SUPPRESSED_KEY, Boolean.TRUE.toString());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(RequestLogSampling.SUPPRESSED_KEY);
+        }
+    }
+
+    private AtomicLong requestCount(final HttpServletRequest request) {
+        final PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+                .pathWithinApplication();
+
+        for (Map.Entry<PathPattern, AtomicLong> endpoint : requestCounts.entrySet()) {
+            if (endpoint.getKey().matches(path)) {
+                return endpoint.getValue();
+            }
+        }
+        return otherRequests;
+    }
+}
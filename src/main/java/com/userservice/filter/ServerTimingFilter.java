@@ -0,0 +1,47 @@
+package com.userservice.filter;
+
+import com.userservice.security.RequestStageTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.NonNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.web.header.HeaderWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts the per-request stage timings and, as a security {@link HeaderWriter}, reports them in a
+ * {@code Server-Timing} header just before the response is committed.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "auth.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter implements HeaderWriter {
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull final HttpServletRequest request,
+            @NonNull final HttpServletResponse response,
+            @NonNull final FilterChain filterChain) throws ServletException, IOException {
+
+        RequestStageTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStageTimings.stop();
+        }
+    }
+
+    @Override
+    public void writeHeaders(final HttpServletRequest request, final HttpServletResponse response) {
+        final String serverTiming = RequestStageTimings.header();
+        if (serverTiming != null) {
+            response.setHeader(SERVER_TIMING, serverTiming);
+        }
+    }
+}
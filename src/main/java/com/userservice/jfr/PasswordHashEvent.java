@@ -0,0 +1,37 @@
+package com.userservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.userservice.PasswordHash")
+@Label("Password Hash")
+@Category({"User Service", "Authentication"})
+@Description("One BCrypt hash or match, on the thread that did the work")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+    public static final String ENCODE = "encode";
+    public static final String MATCHES = "matches";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Configured Cost")
+    private int cost;
+
+    @Label("Matched")
+    private boolean matched;
+
+    public void complete(final String operation, final int cost, final boolean matched) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.cost = cost;
+            this.matched = matched;
+            commit();
+        }
+    }
+}
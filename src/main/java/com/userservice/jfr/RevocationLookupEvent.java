@@ -0,0 +1,34 @@
+package com.userservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.userservice.RevocationLookup")
+@Label("Revocation Lookup")
+@Category({"User Service", "Authentication"})
+@Description("Check of a token ID against the revocation list; the source tells which tier answered")
+@StackTrace(false)
+public class RevocationLookupEvent extends Event {
+    public static final String WRITE_BEHIND_BUFFER = "write_behind_buffer";
+    public static final String BLOOM_FILTER = "bloom_filter";
+    public static final String DATABASE = "database";
+
+    @Label("Source")
+    private String source;
+
+    @Label("Revoked")
+    private boolean revoked;
+
+    public void complete(final String source, final boolean revoked) {
+        end();
+        if (shouldCommit()) {
+            this.source = source;
+            this.revoked = revoked;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.userservice.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Fields shared by the token events. Fields are only assigned once the event is known to be recorded, so a disabled
+ * event costs no more than the begin/end timestamps.
+ */
+public abstract class TokenEvent extends Event {
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    @Label("Algorithm")
+    protected String algorithm;
+
+    @Label("Token Type")
+    protected String tokenType;
+}
@@ -0,0 +1,24 @@
+package com.userservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.userservice.TokenSign")
+@Label("Token Sign")
+@Category({"User Service", "Authentication"})
+@Description("Serializing and RSA-signing one access or refresh token")
+@StackTrace(false)
+public class TokenSignEvent extends TokenEvent {
+
+    public void complete(final String algorithm, final String tokenType) {
+        end();
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.tokenType = tokenType;
+            commit();
+        }
+    }
+}
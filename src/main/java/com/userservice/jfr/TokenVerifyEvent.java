@@ -0,0 +1,28 @@
+package com.userservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.userservice.TokenVerify")
+@Label("Token Verify")
+@Category({"User Service", "Authentication"})
+@Description("Signature check and claims decoding of a token that was not in the verified-token cache")
+@StackTrace(false)
+public class TokenVerifyEvent extends TokenEvent {
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void complete(final String algorithm, final String tokenType, final String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.tokenType = tokenType;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
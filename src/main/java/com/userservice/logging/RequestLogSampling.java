@@ -0,0 +1,27 @@
+package com.userservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Drops log calls below WARN made while serving a request that was not picked for sampling. Turbo filters run
+ * before the logging event is created, so a dropped call costs no formatting and no allocation. Installed by the
+ * {@code async-logging} profile in {@code logback-spring.xml}; the {@code LogSamplingFilter} marks unsampled requests
+ * in the MDC, which unlike a static field is shared with the devtools restart class loader.
+ */
+public class RequestLogSampling extends TurboFilter {
+    public static final String SUPPRESSED_KEY = "logSuppressed";
+
+    @Override
+    public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                              final Object[] params, final Throwable throwable) {
+        if (level.isGreaterOrEqual(Level.WARN) || MDC.get(SUPPRESSED_KEY) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,37 @@
+package com.userservice.model;
+
+import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+
+public record UserClaims(
+        String userId,
+        String email,
+        UserType userType,
+        UserStatus userStatus,
+        String firstName,
+        String lastName,
+        long tokenEpoch
+) {
+    public static UserClaims of(final UserEntity userEntity, final long tokenEpoch) {
+        return new UserClaims(
+                userEntity.getId().toString(),
+                userEntity.getEmail(),
+                userEntity.getUserType(),
+                userEntity.getUserStatus(),
+                userEntity.getFirstName(),
+                userEntity.getLastName(),
+                tokenEpoch);
+    }
+
+    public static UserClaims of(final UserSnapshot user, final long tokenEpoch) {
+        return new UserClaims(
+                user.id().toString(),
+                user.email(),
+                user.userType(),
+                user.userStatus(),
+                user.firstName(),
+                user.lastName(),
+                tokenEpoch);
+    }
+}
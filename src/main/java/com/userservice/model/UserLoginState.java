@@ -0,0 +1,9 @@
+package com.userservice.model;
+
+import com.userservice.model.enums.UserStatus;
+
+public record UserLoginState(
+        UserStatus userStatus,
+        long tokenEpoch
+) {
+}
@@ -0,0 +1,19 @@
+package com.userservice.model;
+
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import java.util.UUID;
+
+public record UserSnapshot(
+        UUID id,
+        String email,
+        String password,
+        UserType userType,
+        UserStatus userStatus,
+        String firstName,
+        String lastName
+) {
+    public UserSnapshot withUserStatus(final UserStatus currentStatus) {
+        return new UserSnapshot(id, email, password, userType, currentStatus, firstName, lastName);
+    }
+}
@@ -0,0 +1,38 @@
+package com.userservice.model;
+
+import com.userservice.model.enums.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class VerifiedToken {
+    private final String token;
+    private final JwsHeader header;
+    private final Claims payload;
+
+    public String getId() {
+        return payload.getId();
+    }
+
+    public String getUserId() {
+        return payload.get(TokenClaims.USER_ID.getValue(), String.class);
+    }
+
+    // Tokens minted before epochs existed carry no claim and count as epoch 0.
+    public long getTokenEpoch() {
+        final Number tokenEpoch = payload.get(TokenClaims.TOKEN_EPOCH.getValue(), Number.class);
+        return tokenEpoch == null ? 0L : tokenEpoch.longValue();
+    }
+
+    public Instant getIssuedAt() {
+        return payload.getIssuedAt().toInstant();
+    }
+
+    public Instant getExpiresAt() {
+        return payload.getExpiration().toInstant();
+    }
+}
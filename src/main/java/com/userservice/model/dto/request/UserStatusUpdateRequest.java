@@ -0,0 +1,10 @@
+package com.userservice.model.dto.request;
+
+import com.userservice.model.enums.UserStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record UserStatusUpdateRequest(
+        @NotNull
+        UserStatus userStatus
+) {
+}
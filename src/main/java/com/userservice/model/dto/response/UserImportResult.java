@@ -0,0 +1,17 @@
+package com.userservice.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.userservice.model.enums.UserImportStatus;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record UserImportResult(
+        long line,
+        String email,
+        UserImportStatus status,
+        List<String> errors
+) {
+    public static UserImportResult of(final long line, final String email, final UserImportStatus status) {
+        return new UserImportResult(line, email, status, List.of());
+    }
+}
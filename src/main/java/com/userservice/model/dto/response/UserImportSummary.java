@@ -0,0 +1,12 @@
+package com.userservice.model.dto.response;
+
+public record UserImportSummary(
+        long total,
+        long created,
+        long duplicates,
+        long invalid,
+        long failed,
+        long durationMillis,
+        double recordsPerSecond
+) {
+}
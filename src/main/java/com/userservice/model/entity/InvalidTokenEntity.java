@@ -1,16 +1,21 @@
 package com.userservice.model.entity;
 
+import com.userservice.utils.TimeOrderedUuidGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 @Entity
 @Getter
@@ -18,13 +23,29 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "invalid_tokens")
+@Table(name = "invalid_tokens",
+        indexes = {
+                @Index(name = "UK_INVALID_TOKENS_TOKEN_ID", columnList = "TOKEN_ID", unique = true),
+                @Index(name = "IDX_INVALID_TOKENS_EXPIRES_AT", columnList = "EXPIRES_AT")
+        })
 public class InvalidTokenEntity {
     @Id
     @Column(name = "ID")
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @GeneratedValue
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
+    private UUID id;
 
-    @Column(name = "TOKEN_ID")
+    @Column(name = "TOKEN_ID", length = 36, nullable = false)
     private String tokenId;
+
+    @Column(name = "EXPIRES_AT")
+    private Instant expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "CREATED_AT", updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "SEQ", insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL AUTO_INCREMENT UNIQUE")
+    private Long sequence;
 }
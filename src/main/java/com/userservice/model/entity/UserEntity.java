@@ -3,21 +3,25 @@ package com.userservice.model.entity;
 import com.userservice.model.enums.TokenClaims;
 import com.userservice.model.enums.UserStatus;
 import com.userservice.model.enums.UserType;
+import com.userservice.utils.TimeOrderedUuidGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
 
 @Getter
 @Setter
@@ -25,12 +29,14 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        indexes = @Index(name = "UK_USERS_EMAIL", columnList = "EMAIL", unique = true))
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @GeneratedValue
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
+    private UUID id;
 
     @Column(name = "EMAIL")
     private String email;
@@ -54,7 +60,7 @@ public class UserEntity {
     public Map<String, Object> getUserClaims() {
         final Map<String, Object> claims = new HashMap<>();
 
-        claims.put(TokenClaims.USER_ID.getValue(), this.id);
+        claims.put(TokenClaims.USER_ID.getValue(), Objects.toString(this.id, null));
         claims.put(TokenClaims.USER_EMAIL.getValue(), this.email);
         claims.put(TokenClaims.USER_TYPE.getValue(), this.userType);
         claims.put(TokenClaims.USER_STATUS.getValue(), this.userStatus);
@@ -0,0 +1,28 @@
+package com.userservice.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_token_epochs")
+public class UserTokenEpochEntity {
+    @Id
+    @Column(name = "USER_ID")
+    private UUID userId;
+
+    @Column(name = "EPOCH", nullable = false)
+    private long epoch;
+}
@@ -0,0 +1,21 @@
+package com.userservice.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuthOutcome {
+    OK("ok"),
+    EXPIRED("expired"),
+    BAD_SIGNATURE("bad_signature"),
+    MALFORMED("malformed"),
+    REVOKED("revoked"),
+    USER_NOT_FOUND("user_not_found"),
+    USER_NOT_ACTIVE("user_not_active"),
+    PASSWORD_MISMATCH("password_mismatch"),
+    OVERLOADED("overloaded"),
+    ERROR("error");
+
+    private final String value;
+}
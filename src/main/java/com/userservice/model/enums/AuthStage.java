@@ -0,0 +1,20 @@
+package com.userservice.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuthStage {
+    HEADER_EXTRACTION("header_extraction"),
+    TOKEN_VERIFY("token_verify"),
+    CLAIMS_PARSE("claims_parse"),
+    REVOCATION_LOOKUP("revocation_lookup"),
+    EPOCH_CHECK("epoch_check"),
+    USER_LOOKUP("user_lookup"),
+    PASSWORD_HASH("password_hash"),
+    PASSWORD_VERIFY("password_verify"),
+    TOKEN_MINT("token_mint");
+
+    private final String value;
+}
@@ -0,0 +1,7 @@
+package com.userservice.model.enums;
+
+public enum BCryptCalibration {
+    OFF,
+    RECOMMEND,
+    APPLY
+}
@@ -15,6 +15,7 @@ public enum TokenClaims {
     USER_EMAIL("userEmail"),
     USER_PHONE_NUMBER("userPhoneNumber"),
     STORE_TITLE("storeTitle"),
+    TOKEN_EPOCH("tokenEpoch"),
     ISSUED_AT("iat"),
     EXPIRES_AT("exp"),
     ALGORITHM("alg"),
@@ -0,0 +1,14 @@
+package com.userservice.model.enums;
+
+import org.springframework.http.MediaType;
+
+public enum UserImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String CSV_VALUE = "text/csv";
+
+    public static UserImportFormat of(final MediaType contentType) {
+        return contentType != null && MediaType.valueOf(CSV_VALUE).isCompatibleWith(contentType) ? CSV : NDJSON;
+    }
+}
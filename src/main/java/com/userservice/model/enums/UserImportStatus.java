@@ -0,0 +1,8 @@
+package com.userservice.model.enums;
+
+public enum UserImportStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
@@ -1,9 +1,61 @@
 package com.userservice.repository;
 
 import com.userservice.model.entity.InvalidTokenEntity;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface InvalidTokenRepository extends JpaRepository<InvalidTokenEntity, String> {
-    Optional<InvalidTokenEntity> findInvalidTokenEntityById(final String tokenId);
+public interface InvalidTokenRepository extends JpaRepository<InvalidTokenEntity, UUID> {
+    boolean existsByTokenId(final String tokenId);
+
+    @Query("""
+            SELECT t.tokenId FROM InvalidTokenEntity t
+            WHERE t.expiresAt IS NULL OR t.expiresAt > :expiresAfter
+            """)
+    Stream<String> streamTokenIdsExpiringAfter(@Param("expiresAfter") final Instant expiresAfter);
+
+    @Query("""
+            SELECT COUNT(t) FROM InvalidTokenEntity t
+            WHERE t.expiresAt IS NULL OR t.expiresAt > :expiresAfter
+            """)
+    long countTokensExpiringAfter(@Param("expiresAfter") final Instant expiresAfter);
+
+    List<InvalidTokenEntity> findBySequenceGreaterThanOrderBySequenceAsc(final long sequence, final Limit limit);
+
+    List<InvalidTokenEntity> findBySequenceIn(final Collection<Long> sequences);
+
+    List<InvalidTokenEntity> findBySequenceBetweenOrderBySequenceAsc(final long from, final long to,
+                                                                      final Limit limit);
+
+    @Query("SELECT COALESCE(MAX(t.sequence), 0) FROM InvalidTokenEntity t")
+    long findMaxSequence();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE invalid_tokens SET CREATED_AT = :createdAt
+            WHERE CREATED_AT IS NULL
+            LIMIT :batchSize
+            """, nativeQuery = true)
+    int backfillCreatedAt(@Param("createdAt") final Instant createdAt, @Param("batchSize") final int batchSize);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM invalid_tokens
+            WHERE EXPIRES_AT < :expiredBefore
+               OR (EXPIRES_AT IS NULL AND CREATED_AT < :createdBefore)
+            LIMIT :batchSize
+            """, nativeQuery = true)
+    int deleteExpiredTokens(@Param("expiredBefore") final Instant expiredBefore,
+                            @Param("createdBefore") final Instant createdBefore,
+                            @Param("batchSize") final int batchSize);
 }
@@ -1,11 +1,42 @@
 package com.userservice.repository;
 
+import com.userservice.model.UserLoginState;
+import com.userservice.model.UserSnapshot;
 import com.userservice.model.entity.UserEntity;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UserRepository extends JpaRepository<UserEntity, String> {
-    boolean existsUserEntityByEmail(final String email);
+public interface UserRepository extends JpaRepository<UserEntity, UUID> {
+    // Constructor projections are never managed, so these reads skip the persistence context and dirty checking.
+    @Query("""
+            SELECT new com.userservice.model.UserSnapshot(
+                u.id, u.email, u.password, u.userType, u.userStatus, u.firstName, u.lastName)
+            FROM UserEntity u WHERE u.id = :id
+            """)
+    Optional<UserSnapshot> findSnapshotById(@Param("id") final UUID id);
 
-    Optional<UserEntity> findUserEntityByEmail(final String email);
+    @Query("""
+            SELECT new com.userservice.model.UserSnapshot(
+                u.id, u.email, u.password, u.userType, u.userStatus, u.firstName, u.lastName)
+            FROM UserEntity u WHERE u.email = :email
+            """)
+    Optional<UserSnapshot> findSnapshotByEmail(@Param("email") final String email);
+
+    // Status and token epoch in one round trip; users without an epoch row sit at epoch 0.
+    @Query("""
+            SELECT new com.userservice.model.UserLoginState(u.userStatus, COALESCE(e.epoch, 0L))
+            FROM UserEntity u LEFT JOIN UserTokenEpochEntity e ON e.userId = u.id
+            WHERE u.id = :id
+            """)
+    Optional<UserLoginState> findLoginStateById(@Param("id") final UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") final UUID id, @Param("password") final String password);
 }
@@ -0,0 +1,23 @@
+package com.userservice.repository;
+
+import com.userservice.model.entity.UserTokenEpochEntity;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UserTokenEpochRepository extends JpaRepository<UserTokenEpochEntity, UUID> {
+    @Query("SELECT e.epoch FROM UserTokenEpochEntity e WHERE e.userId = :userId")
+    Optional<Long> findEpochByUserId(@Param("userId") final UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_token_epochs (USER_ID, EPOCH) VALUES (:userId, 1)
+            ON DUPLICATE KEY UPDATE EPOCH = EPOCH + 1
+            """, nativeQuery = true)
+    int incrementEpoch(@Param("userId") final UUID userId);
+}
@@ -0,0 +1,108 @@
+package com.userservice.scheduler;
+
+import com.userservice.config.TokenConfig;
+import com.userservice.repository.InvalidTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.revocation.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class InvalidTokenPurgeScheduler {
+    private final InvalidTokenRepository invalidTokenRepository;
+    private final Duration refreshTokenLifetime;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pauseBetweenBatches;
+    private final Counter purgedRows;
+    private final Timer purgeDuration;
+
+    public InvalidTokenPurgeScheduler(
+            final InvalidTokenRepository invalidTokenRepository,
+            final TokenConfig tokenConfig,
+            final MeterRegistry meterRegistry,
+            @Value("${auth.revocation.purge.batch-size:1000}") final int batchSize,
+            @Value("${auth.revocation.purge.max-batches-per-run:100}") final int maxBatchesPerRun,
+            @Value("${auth.revocation.purge.pause-between-batches:PT0.1S}") final Duration pauseBetweenBatches
+    ) {
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.refreshTokenLifetime = Duration.ofDays(tokenConfig.getRefreshTokenExpireDays());
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.purgedRows = Counter.builder("revocation.purge.rows")
+                .description("Expired revocation rows deleted from invalid_tokens")
+                .register(meterRegistry);
+        this.purgeDuration = Timer.builder("revocation.purge.duration")
+                .description("Time spent in one purge run of invalid_tokens")
+                .register(meterRegistry);
+    }
+
+    // Rows written before CREATED_AT existed have neither timestamp, so the purge could never match them. They are
+    // stamped with the current time, an upper bound on when they were revoked, and go one refresh-token lifetime
+    // later like any other row without an expiry.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCreatedAt() {
+        final Instant now = Instant.now();
+        long backfilled = 0;
+
+        int updated;
+        do {
+            updated = invalidTokenRepository.backfillCreatedAt(now, batchSize);
+            backfilled += updated;
+        } while (updated == batchSize && pause());
+
+        if (backfilled > 0) {
+            log.info("Backfilled CREATED_AT on {} revocation entries", backfilled);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${auth.revocation.purge.initial-delay:PT1M}",
+            fixedDelayString = "${auth.revocation.purge.interval:PT10M}")
+    public void purgeExpiredTokens() {
+        final long purged = purgeDuration.record(this::purge);
+
+        if (purged > 0) {
+            log.info("Purged {} expired revocation entries", purged);
+        }
+    }
+
+    private long purge() {
+        final Instant expiredBefore = Instant.now();
+        // Rows revoked before EXPIRES_AT was recorded have no expiry; no token outlives a refresh token, so such a
+        // row can only go once it is older than the refresh-token lifetime.
+        final Instant createdBefore = expiredBefore.minus(refreshTokenLifetime);
+        long purged = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            final int deleted = invalidTokenRepository.deleteExpiredTokens(expiredBefore, createdBefore, batchSize);
+            purged += deleted;
+            purgedRows.increment(deleted);
+
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenBatches.toMillis());
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
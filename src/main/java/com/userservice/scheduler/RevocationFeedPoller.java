@@ -0,0 +1,199 @@
+package com.userservice.scheduler;
+
+import com.userservice.cache.RevokedTokenFilter;
+import com.userservice.model.entity.InvalidTokenEntity;
+import com.userservice.repository.InvalidTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.revocation.feed.enabled", havingValue = "true")
+public class RevocationFeedPoller {
+    private static final long NOT_STARTED = -1;
+    private static final int MAXIMUM_TRACKED_GAPS = 100;
+    private static final int SHORT_GAP = 16;
+    private static final int LOOKUP_CHUNK = 500;
+
+    private final InvalidTokenRepository invalidTokenRepository;
+    private final RevokedTokenFilter revokedTokenFilter;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Timer propagationLag;
+    private final Counter appliedChanges;
+    private final Clock clock;
+    private final AtomicLong highWaterMark = new AtomicLong(NOT_STARTED);
+    private final NavigableMap<Long, Gap> gaps = new TreeMap<>();
+    private long readPosition;
+
+    @Autowired
+    public RevocationFeedPoller(
+            final InvalidTokenRepository invalidTokenRepository,
+            final RevokedTokenFilter revokedTokenFilter,
+            final MeterRegistry meterRegistry,
+            @Value("${auth.revocation.feed.batch-size:500}") final int batchSize,
+            @Value("${auth.revocation.feed.gap-timeout:PT10S}") final Duration gapTimeout
+    ) {
+        this(invalidTokenRepository, revokedTokenFilter, meterRegistry, batchSize, gapTimeout, Clock.systemUTC());
+    }
+
+    RevocationFeedPoller(
+            final InvalidTokenRepository invalidTokenRepository,
+            final RevokedTokenFilter revokedTokenFilter,
+            final MeterRegistry meterRegistry,
+            final int batchSize,
+            final Duration gapTimeout,
+            final Clock clock
+    ) {
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.revokedTokenFilter = revokedTokenFilter;
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.clock = clock;
+        this.propagationLag = Timer.builder("revocation.feed.lag")
+                .description("Time from a revocation row being written to it being applied on this instance")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.appliedChanges = Counter.builder("revocation.feed.applied")
+                .description("Revocation rows applied from the invalid_tokens change feed")
+                .register(meterRegistry);
+        Gauge.builder("revocation.feed.high.water.mark", highWaterMark, AtomicLong::get)
+                .description("Highest invalid_tokens sequence applied without gaps")
+                .register(meterRegistry);
+    }
+
+    // Starts a batch behind the current maximum so rows committed around the initial filter load are replayed;
+    // applying a revocation twice is harmless.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        readPosition = Math.max(0, invalidTokenRepository.findMaxSequence() - batchSize);
+        highWaterMark.set(readPosition);
+        log.info("Revocation feed starting after sequence {}", readPosition);
+    }
+
+    // A gap is either a transaction that has taken a sequence value but not committed yet, or a rolled back
+    // insert that will never appear. Reading carries on past gaps, each run of missing sequences is re-checked with
+    // its own deadline, and only the high-water mark waits for them.
+    @Scheduled(initialDelayString = "${auth.revocation.feed.poll-interval:PT1S}",
+            fixedDelayString = "${auth.revocation.feed.poll-interval:PT1S}")
+    public void poll() {
+        if (highWaterMark.get() == NOT_STARTED) {
+            return;
+        }
+        final Instant now = clock.instant();
+
+        recheckGaps(now);
+
+        final List<InvalidTokenEntity> changes = invalidTokenRepository
+                .findBySequenceGreaterThanOrderBySequenceAsc(readPosition, Limit.of(batchSize));
+        for (InvalidTokenEntity change : changes) {
+            if (change.getSequence() > readPosition + 1) {
+                trackGap(readPosition + 1, change.getSequence() - 1, now.plus(gapTimeout));
+            }
+            apply(change, now);
+            readPosition = change.getSequence();
+        }
+
+        expireGaps(now);
+        highWaterMark.set(gaps.isEmpty() ? readPosition : gaps.firstKey() - 1);
+    }
+
+    private void apply(final InvalidTokenEntity change, final Instant now) {
+        revokedTokenFilter.put(change.getTokenId());
+        appliedChanges.increment();
+        if (change.getCreatedAt() != null) {
+            propagationLag.record(Duration.between(change.getCreatedAt(), now));
+        }
+    }
+
+    // AUTO_INCREMENT can jump by millions (INSERT IGNORE duplicates, rollbacks, auto_increment_increment), so a run
+    // of missing values is one entry however long it is, and past the cap new runs are given up on straight away.
+    private void trackGap(final long first, final long last, final Instant deadline) {
+        if (gaps.size() >= MAXIMUM_TRACKED_GAPS) {
+            log.warn("Skipping invalid_tokens sequence gap {}..{}, already tracking {} gaps",
+                    first, last, MAXIMUM_TRACKED_GAPS);
+            return;
+        }
+        gaps.put(first, new Gap(last, deadline));
+    }
+
+    // Short gaps are looked up by sequence, in chunks; a long jump is scanned as a range on the SEQ index.
+    private void recheckGaps(final Instant now) {
+        final List<Long> missing = new ArrayList<>();
+        final List<InvalidTokenEntity> found = new ArrayList<>();
+        for (Map.Entry<Long, Gap> gap : gaps.entrySet()) {
+            final long first = gap.getKey();
+            final long last = gap.getValue().last();
+            if (last - first < SHORT_GAP) {
+                LongStream.rangeClosed(first, last).forEach(missing::add);
+            } else {
+                found.addAll(invalidTokenRepository
+                        .findBySequenceBetweenOrderBySequenceAsc(first, last, Limit.of(batchSize)));
+            }
+        }
+        for (int from = 0; from < missing.size(); from += LOOKUP_CHUNK) {
+            found.addAll(invalidTokenRepository
+                    .findBySequenceIn(missing.subList(from, Math.min(missing.size(), from + LOOKUP_CHUNK))));
+        }
+
+        for (InvalidTokenEntity change : found) {
+            fillGap(change.getSequence());
+            apply(change, now);
+        }
+    }
+
+    private void fillGap(final long sequence) {
+        final Map.Entry<Long, Gap> gap = gaps.floorEntry(sequence);
+        if (gap == null || gap.getValue().last() < sequence) {
+            return;
+        }
+
+        gaps.remove(gap.getKey());
+        if (gap.getKey() < sequence) {
+            gaps.put(gap.getKey(), new Gap(sequence - 1, gap.getValue().deadline()));
+        }
+        if (sequence < gap.getValue().last()) {
+            gaps.put(sequence + 1, gap.getValue());
+        }
+    }
+
+    private void expireGaps(final Instant now) {
+        final Iterator<Map.Entry<Long, Gap>> expiring = gaps.entrySet().iterator();
+        while (expiring.hasNext()) {
+            final Map.Entry<Long, Gap> gap = expiring.next();
+            if (!gap.getValue().deadline().isAfter(now)) {
+                log.warn("Skipping invalid_tokens sequence gap {}..{} after {}",
+                        gap.getKey(), gap.getValue().last(), gapTimeout);
+                expiring.remove();
+            }
+        }
+    }
+
+    private record Gap(long last, Instant deadline) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.userservice.security;
+
+import com.userservice.exception.PasswordNotValidException;
+import com.userservice.exception.ServiceOverloadedException;
+import com.userservice.exception.TokenAlreadyInvalidatedException;
+import com.userservice.exception.UserNotFoundException;
+import com.userservice.exception.UserStatusNotValidException;
+import com.userservice.model.UserSnapshot;
+import com.userservice.model.enums.AuthOutcome;
+import com.userservice.model.enums.AuthStage;
+import com.userservice.model.enums.UserStatus;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times each stage of the authentication pipeline as {@code auth.stage}, tagged with the stage and its outcome, so a
+ * latency spike can be traced to RSA, BCrypt or the database. Timers are registered on first use, so only the
+ * stage/outcome pairs that actually occur are exported.
+ */
+@Component
+public class AuthStageMetrics {
+    private static final String METRIC_NAME = "auth.stage";
+    private static final String STAGE_TAG = "stage";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTimingEnabled;
+    private final Map<AuthStage, ConcurrentMap<AuthOutcome, Timer>> timers = new EnumMap<>(AuthStage.class);
+
+    public AuthStageMetrics(final MeterRegistry meterRegistry) {
+        this(meterRegistry, false);
+    }
+
+    @Autowired
+    public AuthStageMetrics(
+            final MeterRegistry meterRegistry,
+            @Value("${auth.server-timing.enabled:false}") final boolean serverTimingEnabled
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.serverTimingEnabled = serverTimingEnabled;
+        for (AuthStage stage : AuthStage.values()) {
+            timers.put(stage, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void record(final AuthStage stage, final Runnable action) {
+        record(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T record(final AuthStage stage, final Supplier<T> action) {
+        return record(stage, action, result -> AuthOutcome.OK);
+    }
+
+    // The outcome of a stage that completes normally can still be a rejection, e.g. a password that does not match.
+    public <T> T record(final AuthStage stage, final Supplier<T> action, final Function<T, AuthOutcome> outcome) {
+        final long startedAt = System.nanoTime();
+        final T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException exception) {
+            record(stage, startedAt, outcomeOf(exception));
+            throw exception;
+        }
+        record(stage, startedAt, outcome.apply(result));
+        return result;
+    }
+
+    public void record(final AuthStage stage, final long startedAt, final AuthOutcome outcome) {
+        final long elapsed = System.nanoTime() - startedAt;
+        timers.get(stage)
+                .computeIfAbsent(outcome, key -> timer(stage, key))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (serverTimingEnabled) {
+            RequestStageTimings.add(stage, elapsed);
+        }
+    }
+
+    public static AuthOutcome outcomeOf(final Optional<UserSnapshot> user) {
+        if (user.isEmpty()) {
+            return AuthOutcome.USER_NOT_FOUND;
+        }
+        return outcomeOf(user.get().userStatus());
+    }
+
+    public static AuthOutcome outcomeOf(final UserStatus userStatus) {
+        return UserStatus.ACTIVE.equals(userStatus) ? AuthOutcome.OK : AuthOutcome.USER_NOT_ACTIVE;
+    }
+
+    public static AuthOutcome outcomeOf(final Throwable exception) {
+        if (exception instanceof ExpiredJwtException) {
+            return AuthOutcome.EXPIRED;
+        }
+        if (exception instanceof SignatureException) {
+            return AuthOutcome.BAD_SIGNATURE;
+        }
+        if (exception instanceof JwtException) {
+            return AuthOutcome.MALFORMED;
+        }
+        if (exception instanceof TokenAlreadyInvalidatedException) {
+            return AuthOutcome.REVOKED;
+        }
+        if (exception instanceof UserNotFoundException || exception instanceof UsernameNotFoundException) {
+            return AuthOutcome.USER_NOT_FOUND;
+        }
+        if (exception instanceof UserStatusNotValidException) {
+            return AuthOutcome.USER_NOT_ACTIVE;
+        }
+        if (exception instanceof PasswordNotValidException) {
+            return AuthOutcome.PASSWORD_MISMATCH;
+        }
+        if (exception instanceof ServiceOverloadedException) {
+            return AuthOutcome.OVERLOADED;
+        }
+        return AuthOutcome.ERROR;
+    }
+
+    private Timer timer(final AuthStage stage, final AuthOutcome outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent in one stage of authentication, by outcome")
+                .tag(STAGE_TAG, stage.getValue())
+                .tag(OUTCOME_TAG, outcome.getValue())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.userservice.security;
+
+import java.time.Duration;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+@Slf4j
+@UtilityClass
+public class BCryptStrengthCalibrator {
+    private static final int MINIMUM_LOG_ROUNDS = 4;
+    private static final int MAXIMUM_LOG_ROUNDS = 31;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    // Each extra round doubles the cost, so the search stops at the first strength over budget and keeps the one
+    // before it. The minimum wins over the budget on hardware too slow to reach it.
+    public int calibrate(final Duration target, final int minimumStrength) {
+        int chosen = MINIMUM_LOG_ROUNDS;
+        long chosenNanos = 0;
+
+        for (int strength = MINIMUM_LOG_ROUNDS; strength <= MAXIMUM_LOG_ROUNDS; strength++) {
+            final long nanos = measure(strength);
+            if (nanos > target.toNanos()) {
+                break;
+            }
+            chosen = strength;
+            chosenNanos = nanos;
+        }
+
+        final int strength = Math.max(chosen, minimumStrength);
+        log.info("BCrypt calibration: strength {} ({} ms per hash at strength {}, target {} ms)",
+                strength, Duration.ofNanos(chosenNanos).toMillis(), chosen, target.toMillis());
+        return strength;
+    }
+
+    private long measure(final int strength) {
+        final String salt = BCrypt.gensalt(strength);
+        BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+
+        long fastest = Long.MAX_VALUE;
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            final long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
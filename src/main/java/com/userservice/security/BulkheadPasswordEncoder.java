@@ -0,0 +1,31 @@
+package com.userservice.security;
+
+import com.userservice.model.enums.AuthOutcome;
+import com.userservice.model.enums.AuthStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@RequiredArgsConstructor
+public class BulkheadPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final PasswordHashingBulkhead bulkhead;
+    private final AuthStageMetrics authStageMetrics;
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return authStageMetrics.record(AuthStage.PASSWORD_HASH,
+                () -> bulkhead.execute(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return authStageMetrics.record(AuthStage.PASSWORD_VERIFY,
+                () -> bulkhead.execute(() -> delegate.matches(rawPassword, encodedPassword)),
+                matches -> matches ? AuthOutcome.OK : AuthOutcome.PASSWORD_MISMATCH);
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,60 @@
+package com.userservice.security;
+
+import com.userservice.jfr.PasswordHashEvent;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} whose {@link #upgradeEncoding} honours a pinned cost. A strength pinned for the whole
+ * fleet asks for a rehash whenever the stored cost differs, so it can be tuned down as well as up; a strength an
+ * instance calibrated for itself only upgrades weaker hashes, so instances on different hardware do not keep
+ * rehashing each other's passwords.
+ */
+@Getter
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+    private final boolean pinned;
+
+    public CostAwareBCryptPasswordEncoder(final int strength, final boolean pinned) {
+        super(strength);
+        this.strength = strength;
+        this.pinned = pinned;
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        final PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        final String encodedPassword = super.encode(rawPassword);
+        event.complete(PasswordHashEvent.ENCODE, strength, false);
+        return encodedPassword;
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        final PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        final boolean matched = super.matches(rawPassword, encodedPassword);
+        event.complete(PasswordHashEvent.MATCHES, strength, matched);
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        final Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return true;
+        }
+
+        final int storedStrength = Integer.parseInt(matcher.group(1));
+        return pinned ? storedStrength != strength : storedStrength < strength;
+    }
+}
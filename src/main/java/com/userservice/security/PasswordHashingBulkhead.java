@@ -0,0 +1,101 @@
+package com.userservice.security;
+
+import com.userservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password hashing and verification on a dedicated, bounded pool. A request thread can only be parked here
+ * while the pool and its queue have room; beyond that it fails fast, so a login storm holds at most
+ * {@code pool-size + queue-capacity} servlet threads and leaves the rest to token refresh and bearer-authenticated
+ * calls.
+ */
+@Slf4j
+@Component
+public class PasswordHashingBulkhead implements DisposableBean {
+    private static final String EXECUTOR_NAME = "passwordHashing";
+    private static final String REJECTED_METRIC = "password.hashing.rejected";
+
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+    private final Duration waitTimeout;
+    private final Duration retryAfter;
+    private final Counter saturatedRejections;
+    private final Counter timedOutRejections;
+
+    public PasswordHashingBulkhead(
+            @Value("${auth.password-hashing.pool-size:0}") final int poolSize,
+            @Value("${auth.password-hashing.queue-capacity:32}") final int queueCapacity,
+            @Value("${auth.password-hashing.wait-timeout:PT2S}") final Duration waitTimeout,
+            @Value("${auth.password-hashing.retry-after:PT1S}") final Duration retryAfter,
+            final MeterRegistry meterRegistry
+    ) {
+        final int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.threadPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, EXECUTOR_NAME);
+        this.waitTimeout = waitTimeout;
+        this.retryAfter = retryAfter;
+        this.saturatedRejections = rejectionCounter(meterRegistry, "saturated");
+        this.timedOutRejections = rejectionCounter(meterRegistry, "timeout");
+
+        log.info("Password hashing bulkhead started with {} threads and queue capacity {}", threads, queueCapacity);
+    }
+
+    public <T> T execute(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            saturatedRejections.increment();
+            throw new ServiceOverloadedException(retryAfter);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            timedOutRejections.increment();
+            throw new ServiceOverloadedException(retryAfter);
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        threadPool.shutdown();
+    }
+
+    private Counter rejectionCounter(final MeterRegistry meterRegistry, final String reason) {
+        return Counter.builder(REJECTED_METRIC)
+                .description("Password hashing requests turned away because the bulkhead was full or too slow")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
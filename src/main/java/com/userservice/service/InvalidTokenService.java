@@ -1,9 +1,10 @@
 package com.userservice.service;
 
+import com.userservice.model.VerifiedToken;
 import java.util.Set;
 
 public interface InvalidTokenService {
-    void invalidateTokens(final Set<String> tokenIds);
+    void invalidateTokens(final Set<VerifiedToken> tokens);
 
     void checkForInvalidityOfToken(final String tokenId);
 }
@@ -0,0 +1,13 @@
+package com.userservice.service;
+
+import com.userservice.model.VerifiedToken;
+
+public interface TokenEpochService {
+    long getCurrentEpoch(final String userId);
+
+    void checkTokenEpoch(final VerifiedToken token);
+
+    void checkTokenEpoch(final VerifiedToken token, final long currentEpoch);
+
+    void incrementEpoch(final String userId);
+}
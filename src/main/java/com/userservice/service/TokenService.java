@@ -1,26 +1,20 @@
 package com.userservice.service;
 
 import com.userservice.model.Token;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import java.util.Map;
-import java.util.Set;
+import com.userservice.model.UserClaims;
+import com.userservice.model.VerifiedToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 public interface TokenService {
-    Token generateToken(final Map<String, Object> claims);
+    Token generateToken(final UserClaims claims);
 
-    Token generateToken(final Map<String, Object> claims, final String refreshToken);
+    Token generateToken(final UserClaims claims, final VerifiedToken refreshToken);
 
-    UsernamePasswordAuthenticationToken getAuthentication(final String token);
-
-    void verifyAndValidate(final String jwt);
+    Token generateAccessToken(final UserClaims claims, final VerifiedToken refreshToken);
 
-    void verifyAndValidate(final Set<String> jwts);
-
-    Jws<Claims> getClaims(final String jwt);
+    UsernamePasswordAuthenticationToken getAuthentication(final String token);
 
-    Claims getPayload(final String jwt);
+    UsernamePasswordAuthenticationToken getAuthentication(final VerifiedToken token);
 
-    String getId(final String jwt);
+    VerifiedToken verifyAndValidate(final String jwt);
 }
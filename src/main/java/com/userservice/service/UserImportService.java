@@ -0,0 +1,12 @@
+package com.userservice.service;
+
+import com.userservice.model.dto.response.UserImportSummary;
+import com.userservice.model.enums.UserImportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface UserImportService {
+
+    UserImportSummary importUsers(InputStream input, UserImportFormat format, OutputStream output) throws IOException;
+}
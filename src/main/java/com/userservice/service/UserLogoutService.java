@@ -4,4 +4,6 @@ import com.userservice.model.dto.request.TokenInvalidateRequest;
 
 public interface UserLogoutService {
     void logout(final TokenInvalidateRequest request);
+
+    void logoutAll(final String userId);
 }
@@ -0,0 +1,8 @@
+package com.userservice.service;
+
+import com.userservice.model.dto.request.UserStatusUpdateRequest;
+import java.util.UUID;
+
+public interface UserStatusService {
+    void updateUserStatus(final UUID userId, final UserStatusUpdateRequest request);
+}
@@ -1,12 +1,19 @@
 package com.userservice.service.impl;
 
+import com.userservice.cache.RevocationWriteBehindBuffer;
+import com.userservice.cache.RevokedTokenFilter;
 import com.userservice.exception.TokenAlreadyInvalidatedException;
+import com.userservice.jfr.RevocationLookupEvent;
+import com.userservice.model.VerifiedToken;
 import com.userservice.model.entity.InvalidTokenEntity;
+import com.userservice.model.enums.AuthStage;
 import com.userservice.repository.InvalidTokenRepository;
+import com.userservice.security.AuthStageMetrics;
 import com.userservice.service.InvalidTokenService;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -14,24 +21,58 @@ import org.springframework.stereotype.Service;
 public class InvalidTokenServiceImpl implements InvalidTokenService {
 
     private final InvalidTokenRepository invalidTokenRepository;
+    private final RevokedTokenFilter revokedTokenFilter;
+    private final RevocationWriteBehindBuffer revocationWriteBehindBuffer;
+    private final AuthStageMetrics authStageMetrics;
 
     @Override
-    public void invalidateTokens(Set<String> tokenIds) {
-        final Set<InvalidTokenEntity> invalidTokenEntities = tokenIds.stream()
-                .map(tokenId -> InvalidTokenEntity.builder()
-                        .tokenId(tokenId)
+    public void invalidateTokens(Set<VerifiedToken> tokens) {
+        final List<InvalidTokenEntity> invalidTokenEntities = tokens.stream()
+                .map(token -> InvalidTokenEntity.builder()
+                        .tokenId(token.getId())
+                        .expiresAt(token.getExpiresAt())
                         .build())
-                .collect(Collectors.toSet());
+                .toList();
 
-        invalidTokenRepository.saveAll(invalidTokenEntities);
+        invalidTokenEntities.forEach(entity -> revokedTokenFilter.put(entity.getTokenId()));
+
+        final List<InvalidTokenEntity> unbufferedEntities = invalidTokenEntities.stream()
+                .filter(entity -> !revocationWriteBehindBuffer.offer(entity))
+                .toList();
+
+        if (unbufferedEntities.isEmpty()) {
+            return;
+        }
+
+        try {
+            invalidTokenRepository.saveAll(unbufferedEntities);
+        } catch (DataIntegrityViolationException exception) {
+            throw new TokenAlreadyInvalidatedException();
+        }
     }
 
     @Override
     public void checkForInvalidityOfToken(String tokenId) {
-        final boolean isTokenInvalid = invalidTokenRepository
-                .findInvalidTokenEntityById(tokenId).isPresent();
+        authStageMetrics.record(AuthStage.REVOCATION_LOOKUP, () -> checkRevocation(tokenId));
+    }
+
+    private void checkRevocation(String tokenId) {
+        final RevocationLookupEvent event = new RevocationLookupEvent();
+        event.begin();
+
+        if (revocationWriteBehindBuffer.isPending(tokenId)) {
+            event.complete(RevocationLookupEvent.WRITE_BEHIND_BUFFER, true);
+            throw new TokenAlreadyInvalidatedException(tokenId);
+        }
+
+        if (!revokedTokenFilter.mightContain(tokenId)) {
+            event.complete(RevocationLookupEvent.BLOOM_FILTER, false);
+            return;
+        }
 
-        if (isTokenInvalid) {
+        final boolean revoked = invalidTokenRepository.existsByTokenId(tokenId);
+        event.complete(RevocationLookupEvent.DATABASE, revoked);
+        if (revoked) {
             throw new TokenAlreadyInvalidatedException(tokenId);
         }
     }
@@ -1,15 +1,21 @@
 package com.userservice.service.impl;
 
+import com.userservice.cache.UserSnapshotCache;
 import com.userservice.exception.UserNotFoundException;
 import com.userservice.exception.UserStatusNotValidException;
 import com.userservice.model.Token;
+import com.userservice.model.UserClaims;
+import com.userservice.model.UserSnapshot;
+import com.userservice.model.VerifiedToken;
 import com.userservice.model.dto.request.TokenRefreshRequest;
-import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.AuthStage;
 import com.userservice.model.enums.TokenClaims;
 import com.userservice.model.enums.UserStatus;
-import com.userservice.repository.UserRepository;
+import com.userservice.security.AuthStageMetrics;
 import com.userservice.service.RefreshTokenService;
+import com.userservice.service.TokenEpochService;
 import com.userservice.service.TokenService;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,42 +25,47 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final AuthStageMetrics authStageMetrics;
+    private final TokenEpochService tokenEpochService;
 
     @Override
     public Token refreshToken(TokenRefreshRequest request) {
-        log.info("Token refresh request received for refreshToken: {}", request.refreshToken());
+        log.debug("Token refresh request received");
 
-        tokenService.verifyAndValidate(request.refreshToken());
-        log.info("Refresh token successfully verified.");
+        final VerifiedToken refreshToken = tokenService.verifyAndValidate(request.refreshToken());
+        log.debug("Refresh token successfully verified.");
 
-        final String userId = tokenService
-                .getPayload(request.refreshToken())
+        final String userId = refreshToken
+                .getPayload()
                 .get(TokenClaims.USER_ID.getValue())
                 .toString();
-        log.info("Extracted user ID from refresh token: {}", userId);
+        log.debug("Extracted user ID from refresh token: {}", userId);
 
-        final UserEntity userEntityFromDb = userRepository
-                .findById(userId)
+        final UserSnapshot user = authStageMetrics
+                .record(AuthStage.USER_LOOKUP, () -> userSnapshotCache.findById(UUID.fromString(userId)),
+                        AuthStageMetrics::outcomeOf)
                 .orElseThrow(() -> {
                     log.warn("User not found for ID: {}", userId);
                     return new UserNotFoundException();
                 });
 
-        validateUserStatus(userEntityFromDb);
+        validateUserStatus(user);
 
         log.info("Generating new token for user ID: {}", userId);
-        return tokenService.generateToken(userEntityFromDb.getUserClaims(), request.refreshToken());
+        final long tokenEpoch = authStageMetrics.record(AuthStage.USER_LOOKUP,
+                () -> tokenEpochService.getCurrentEpoch(userId));
+        return tokenService.generateToken(UserClaims.of(user, tokenEpoch), refreshToken);
     }
 
-    private void validateUserStatus(UserEntity userEntityFromDb) {
-        log.debug("Validating user status for user ID: {}", userEntityFromDb.getId());
+    private void validateUserStatus(UserSnapshot user) {
+        log.debug("Validating user status for user ID: {}", user.id());
 
-        if (!(UserStatus.ACTIVE.equals(userEntityFromDb.getUserStatus()))) {
+        if (!(UserStatus.ACTIVE.equals(user.userStatus()))) {
             log.warn("User status not valid for user ID: {}, status: {}",
-                    userEntityFromDb.getId(), userEntityFromDb.getUserStatus());
+                    user.id(), user.userStatus());
 
-            throw new UserStatusNotValidException("User status: " + userEntityFromDb.getUserStatus());
+            throw new UserStatusNotValidException("User status: " + user.userStatus());
         }
     }
 }
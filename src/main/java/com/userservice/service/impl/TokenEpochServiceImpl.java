@@ -0,0 +1,49 @@
+package com.userservice.service.impl;
+
+import com.userservice.cache.TokenEpochCache;
+import com.userservice.exception.TokenAlreadyInvalidatedException;
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.enums.AuthStage;
+import com.userservice.repository.UserTokenEpochRepository;
+import com.userservice.security.AuthStageMetrics;
+import com.userservice.service.TokenEpochService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenEpochServiceImpl implements TokenEpochService {
+    private final UserTokenEpochRepository userTokenEpochRepository;
+    private final TokenEpochCache tokenEpochCache;
+    private final AuthStageMetrics authStageMetrics;
+
+    // Tokens are minted with the epoch read from the database: a bump on another instance only invalidates that
+    // instance's cache, and a token minted here with the stale epoch would be rejected once the cache catches up.
+    @Override
+    public long getCurrentEpoch(String userId) {
+        return userTokenEpochRepository.findEpochByUserId(UUID.fromString(userId)).orElse(0L);
+    }
+
+    @Override
+    public void checkTokenEpoch(VerifiedToken token) {
+        authStageMetrics.record(AuthStage.EPOCH_CHECK,
+                () -> checkTokenEpoch(token, tokenEpochCache.get(token.getUserId())));
+    }
+
+    @Override
+    public void checkTokenEpoch(VerifiedToken token, long currentEpoch) {
+        if (token.getTokenEpoch() < currentEpoch) {
+            throw new TokenAlreadyInvalidatedException(token.getId());
+        }
+    }
+
+    @Override
+    public void incrementEpoch(String userId) {
+        userTokenEpochRepository.incrementEpoch(UUID.fromString(userId));
+        tokenEpochCache.invalidate(userId);
+        log.info("Token epoch incremented for user ID: {}", userId);
+    }
+}
@@ -1,27 +1,37 @@
 package com.userservice.service.impl;
 
+import com.userservice.cache.VerifiedTokenCache;
+import com.userservice.codec.JtiGenerator;
+import com.userservice.codec.PayloadWriter;
+import com.userservice.codec.TokenCodec;
+import com.userservice.codec.TokenPayloads;
 import com.userservice.config.TokenConfig;
+import com.userservice.jfr.TokenEvent;
+import com.userservice.jfr.TokenSignEvent;
+import com.userservice.jfr.TokenVerifyEvent;
 import com.userservice.model.Token;
+import com.userservice.model.UserClaims;
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.enums.AuthOutcome;
+import com.userservice.model.enums.AuthStage;
 import com.userservice.model.enums.TokenClaims;
-import com.userservice.model.enums.TokenType;
 import com.userservice.model.enums.UserType;
+import com.userservice.security.AuthStageMetrics;
 import com.userservice.service.InvalidTokenService;
+import com.userservice.service.TokenEpochService;
 import com.userservice.service.TokenService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.time.DateUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -35,97 +45,46 @@ import org.springframework.web.server.ResponseStatusException;
 public class TokenServiceImpl implements TokenService {
     private final TokenConfig tokenConfig;
     private final InvalidTokenService invalidTokenService;
+    private final TokenEpochService tokenEpochService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenCodec tokenCodec;
+    private final AuthStageMetrics authStageMetrics;
 
     @Override
-    public Token generateToken(Map<String, Object> claims) {
-        final long currentTimeMills = System.currentTimeMillis();
-
-        final Date tokenIssuedAt = new Date(currentTimeMills);
-
-        final Date accessTokenExpiredAt = DateUtils
-                .addMinutes(new Date(currentTimeMills),
-                        tokenConfig
-                                .getAccessTokenExpireMinute());
-
-        final String accessToken = Jwts.builder()
-                .header()
-                .type(TokenType.BEARER.getValue())
-                .and()
-                .id(UUID.randomUUID().toString())
-                .issuedAt(tokenIssuedAt)
-                .expiration(accessTokenExpiredAt)
-                .signWith(tokenConfig.getPrivateKey())
-                .claims(claims)
-                .compact();
-
-        final Date refreshTokenExpiresAt = DateUtils
-                .addDays(new Date(currentTimeMills),
-                        tokenConfig
-                                .getRefreshTokenExpireDay());
-
-        final String refreshToken = Jwts.builder()
-                .header()
-                .type(TokenType.BEARER.getValue())
-                .and()
-                .id(UUID.randomUUID().toString())
-                .issuedAt(tokenIssuedAt)
-                .expiration(refreshTokenExpiresAt)
-                .signWith(tokenConfig.getPrivateKey())
-                .claim(TokenClaims.USER_ID.getValue(), claims.get(TokenClaims.USER_ID.getValue()))
-                .compact();
-
-        return Token.builder()
-                .accessToken(accessToken)
-                .accessTokenExpiresAt(accessTokenExpiredAt.toInstant().getEpochSecond())
-                .refreshToken(refreshToken)
-                .build();
+    public Token generateToken(UserClaims claims) {
+        return authStageMetrics.record(AuthStage.TOKEN_MINT, () -> mintTokens(claims));
     }
 
     @Override
-    public Token generateToken(Map<String, Object> claims, String refreshToken) {
-        final long currentTimeMills = System.currentTimeMillis();
-
-        final String refreshTokenId = this.getId(refreshToken);
+    public Token generateToken(UserClaims claims, VerifiedToken refreshToken) {
+        invalidTokenService.checkForInvalidityOfToken(refreshToken.getId());
+        tokenEpochService.checkTokenEpoch(refreshToken, claims.tokenEpoch());
 
-        invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
-
-        final Date accessTokenIssuedAt = new Date(currentTimeMills);
-
-        final Date accessTokenExpiredAt = DateUtils
-                .addMinutes(new Date(currentTimeMills),
-                        tokenConfig
-                                .getAccessTokenExpireMinute());
-
-        final String accessToken = Jwts.builder()
-                .header()
-                .type(TokenType.BEARER.getValue())
-                .and()
-                .id(UUID.randomUUID().toString())
-                .issuedAt(accessTokenIssuedAt)
-                .expiration(accessTokenExpiredAt)
-                .signWith(tokenConfig.getPrivateKey())
-                .claims(claims)
-                .compact();
+        return generateAccessToken(claims, refreshToken);
+    }
 
-        return Token.builder()
-                .accessToken(accessToken)
-                .accessTokenExpiresAt(accessTokenExpiredAt.toInstant().getEpochSecond())
-                .refreshToken(refreshToken)
-                .build();
+    // Signs only; the caller has already checked that the refresh token is neither revoked nor from an old epoch.
+    @Override
+    public Token generateAccessToken(UserClaims claims, VerifiedToken refreshToken) {
+        return authStageMetrics.record(AuthStage.TOKEN_MINT, () -> mintAccessToken(claims, refreshToken));
     }
 
     @Override
     public UsernamePasswordAuthenticationToken getAuthentication(String token) {
-        final Jws<Claims> claimsJws = Jwts.parser()
-                .verifyWith(tokenConfig.getPublicKey())
-                .build()
-                .parseSignedClaims(token);
+        return getAuthentication(verifyAndValidate(token));
+    }
 
-        final Claims payload = claimsJws.getPayload();
-        final JwsHeader jwsHeader = claimsJws.getHeader();
+    @Override
+    public UsernamePasswordAuthenticationToken getAuthentication(VerifiedToken token) {
+        return authStageMetrics.record(AuthStage.CLAIMS_PARSE, () -> toAuthentication(token));
+    }
+
+    private UsernamePasswordAuthenticationToken toAuthentication(VerifiedToken token) {
+        final Claims payload = token.getPayload();
+        final JwsHeader jwsHeader = token.getHeader();
 
         final Jwt jwt = new Jwt(
-                token,
+                token.getToken(),
                 payload.getIssuedAt().toInstant(),
                 payload.getExpiration().toInstant(),
                 Map.of(
@@ -142,61 +101,112 @@ public class TokenServiceImpl implements TokenService {
 
         authorities.add(new SimpleGrantedAuthority(userType.name()));
 
-        log.info("Returning authentication for token {}", jwt);
+        log.debug("Returning authentication for user ID: {}", payload.get(TokenClaims.USER_ID.getValue()));
         return UsernamePasswordAuthenticationToken.authenticated(jwt, null, authorities);
     }
 
     @Override
-    public void verifyAndValidate(String jwt) {
+    public VerifiedToken verifyAndValidate(String jwt) {
+        return verifiedTokenCache.get(jwt, this::verify);
+    }
+
+    // Runs on cache misses only. jjwt checks the signature and decodes the claims in the same call.
+    private VerifiedToken verify(String jwt) {
+        final long startedAt = System.nanoTime();
+        final TokenVerifyEvent event = new TokenVerifyEvent();
+        event.begin();
         try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(tokenConfig.getPublicKey())
-                    .build()
-                    .parseSignedClaims(jwt);
+            final Jws<Claims> claimsJws = tokenCodec.parse(jwt);
 
-            Claims claims = claimsJws.getPayload();
+            final Claims claims = claimsJws.getPayload();
 
             if (claims.getExpiration().before(new Date())) {
-                throw new JwtException("Token has expired");
+                throw new ExpiredJwtException(claimsJws.getHeader(), claims, "Token has expired");
             }
+
+            final VerifiedToken verifiedToken = VerifiedToken.builder()
+                    .token(jwt)
+                    .header(claimsJws.getHeader())
+                    .payload(claims)
+                    .build();
+
+            authStageMetrics.record(AuthStage.TOKEN_VERIFY, startedAt, AuthOutcome.OK);
+            event.complete(claimsJws.getHeader().getAlgorithm(), tokenTypeOf(claims), AuthOutcome.OK.getValue());
+            return verifiedToken;
         } catch (ExpiredJwtException e) {
+            authStageMetrics.record(AuthStage.TOKEN_VERIFY, startedAt, AuthOutcome.EXPIRED);
+            event.complete(e.getHeader().getAlgorithm(), tokenTypeOf(e.getClaims()), AuthOutcome.EXPIRED.getValue());
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token has expired", e);
         } catch (JwtException e) {
+            final AuthOutcome outcome = AuthStageMetrics.outcomeOf(e);
+            authStageMetrics.record(AuthStage.TOKEN_VERIFY, startedAt, outcome);
+            event.complete(tokenCodec.getAlgorithm(), null, outcome.getValue());
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid JWT token", e);
         } catch (Exception e) {
+            authStageMetrics.record(AuthStage.TOKEN_VERIFY, startedAt, AuthOutcome.ERROR);
+            event.complete(tokenCodec.getAlgorithm(), null, AuthOutcome.ERROR.getValue());
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error validating token", e);
         }
     }
 
-    @Override
-    public void verifyAndValidate(Set<String> jwts) {
-        jwts.forEach(this::verifyAndValidate);
+    private Token mintTokens(UserClaims claims) {
+        final long tokenIssuedAt = currentEpochSecond();
+
+        final long accessTokenExpiresAt = tokenIssuedAt + TimeUnit.MINUTES
+                .toSeconds(tokenConfig.getAccessTokenExpireMinutes());
+
+        final String accessToken = sign(
+                TokenPayloads.accessToken(JtiGenerator.nextId(), tokenIssuedAt, accessTokenExpiresAt, claims),
+                TokenEvent.ACCESS_TOKEN);
+
+        final long refreshTokenExpiresAt = tokenIssuedAt + TimeUnit.DAYS
+                .toSeconds(tokenConfig.getRefreshTokenExpireDays());
+
+        final String refreshToken = sign(
+                TokenPayloads.refreshToken(JtiGenerator.nextId(), tokenIssuedAt, refreshTokenExpiresAt,
+                        claims.userId(), claims.tokenEpoch()),
+                TokenEvent.REFRESH_TOKEN);
+
+        return Token.builder()
+                .accessToken(accessToken)
+                .accessTokenExpiresAt(accessTokenExpiresAt)
+                .refreshToken(refreshToken)
+                .build();
     }
 
-    @Override
-    public Jws<Claims> getClaims(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfig.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt);
+    private Token mintAccessToken(UserClaims claims, VerifiedToken refreshToken) {
+        final long accessTokenIssuedAt = currentEpochSecond();
+
+        final long accessTokenExpiresAt = accessTokenIssuedAt + TimeUnit.MINUTES
+                .toSeconds(tokenConfig.getAccessTokenExpireMinutes());
+
+        final String accessToken = sign(
+                TokenPayloads.accessToken(JtiGenerator.nextId(), accessTokenIssuedAt, accessTokenExpiresAt, claims),
+                TokenEvent.ACCESS_TOKEN);
+
+        return Token.builder()
+                .accessToken(accessToken)
+                .accessTokenExpiresAt(accessTokenExpiresAt)
+                .refreshToken(refreshToken.getToken())
+                .build();
     }
 
-    @Override
-    public Claims getPayload(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfig.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt)
-                .getPayload();
+    private String sign(PayloadWriter payload, String tokenType) {
+        final TokenSignEvent event = new TokenSignEvent();
+        event.begin();
+        final String token = tokenCodec.sign(payload);
+        event.complete(tokenCodec.getAlgorithm(), tokenType);
+        return token;
     }
 
-    @Override
-    public String getId(String jwt) {
-        return Jwts.parser()
-                .verifyWith(tokenConfig.getPublicKey())
-                .build()
-                .parseSignedClaims(jwt)
-                .getPayload()
-                .getId();
+    // Only access tokens carry the user type.
+    private static String tokenTypeOf(Claims claims) {
+        return claims.containsKey(TokenClaims.USER_TYPE.getValue())
+                ? TokenEvent.ACCESS_TOKEN
+                : TokenEvent.REFRESH_TOKEN;
+    }
+
+    private static long currentEpochSecond() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
     }
 }
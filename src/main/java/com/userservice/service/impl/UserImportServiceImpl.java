@@ -0,0 +1,392 @@
+package com.userservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.userservice.exception.ImportFormatNotValidException;
+import com.userservice.model.dto.request.UserRegisterRequest;
+import com.userservice.model.dto.response.UserImportResult;
+import com.userservice.model.dto.response.UserImportSummary;
+import com.userservice.model.enums.UserImportFormat;
+import com.userservice.model.enums.UserImportStatus;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import com.userservice.service.UserImportService;
+import com.userservice.utils.CsvLineParser;
+import com.userservice.utils.EmailNormalizer;
+import com.userservice.utils.TimeOrderedUuidGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Imports users from an NDJSON or CSV stream one batch at a time. Each batch is validated, checked for emails that
+ * are repeated in the batch or already registered, hashed in parallel on a pool of its own and written with one
+ * JDBC batch, and its results are flushed before the next batch is read, so memory stays bounded by the batch size
+ * whatever the size of the upload.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+    private static final String EXECUTOR_NAME = "userImportHashing";
+    private static final int CORES_PER_HASHING_THREAD = 4;
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(ID, EMAIL, PASSWORD, FIRST_NAME, LAST_NAME, USER_TYPE, USER_STATUS) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_EXISTING_EMAILS = "SELECT EMAIL FROM users WHERE EMAIL IN (:emails)";
+    private static final String EMAIL = "email";
+    private static final String PASSWORD = "password";
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final List<String> CSV_COLUMNS = List.of(EMAIL, PASSWORD, FIRST_NAME, LAST_NAME);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final ExecutorService hashingExecutor;
+    private final int batchSize;
+    private final String adminEmail;
+
+    // Hashing goes through the encoder without the login bulkhead: an import would otherwise fill its queue and
+    // turn logins away with 503 for as long as the upload runs. In exchange the pool defaults to a quarter of the
+    // cores, so an import competes with login hashing for CPU instead of taking all of it.
+    public UserImportServiceImpl(
+            final JdbcTemplate jdbcTemplate,
+            final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            final TransactionTemplate transactionTemplate,
+            @Qualifier("hashingPasswordEncoder") final PasswordEncoder passwordEncoder,
+            final Validator validator,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${auth.user-import.hashing-pool-size:0}") final int hashingPoolSize,
+            @Value("${auth.user-import.batch-size:500}") final int batchSize,
+            @Value("${admin.email}") final String adminEmail
+    ) {
+        final int threads = hashingPoolSize > 0
+                ? hashingPoolSize
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / CORES_PER_HASHING_THREAD);
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.hashingExecutor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("user-import-hashing-")),
+                EXECUTOR_NAME);
+        this.batchSize = batchSize;
+        this.adminEmail = EmailNormalizer.normalize(adminEmail);
+    }
+
+    @Override
+    public UserImportSummary importUsers(final InputStream input,
+                                         final UserImportFormat format,
+                                         final OutputStream output) throws IOException {
+        final long startedAt = System.nanoTime();
+        final long[] counts = new long[UserImportStatus.values().length];
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        final Map<String, Integer> columns = format == UserImportFormat.CSV ? readCsvHeader(reader) : null;
+        final List<ImportRecord> batch = new ArrayList<>(batchSize);
+        long lineNumber = columns == null ? 0 : 1;
+
+        try (JsonGenerator generator = resultWriter.createGenerator(output)) {
+            generator.setRootValueSeparator(null);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                batch.add(columns == null ? parseJson(lineNumber, line) : parseCsv(lineNumber, line, columns));
+                if (batch.size() == batchSize) {
+                    write(generator, importBatch(batch), counts);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(generator, importBatch(batch), counts);
+            }
+
+            final UserImportSummary summary = summarize(counts, Duration.ofNanos(System.nanoTime() - startedAt));
+            resultWriter.writeValue(generator, Map.of("summary", summary));
+            generator.writeRaw('\n');
+
+            log.info("User import finished: {} records, {} created, {} duplicates, {} invalid, {} failed in {} ms",
+                    summary.total(), summary.created(), summary.duplicates(), summary.invalid(), summary.failed(),
+                    summary.durationMillis());
+            return summary;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdownNow();
+    }
+
+    private UserImportResult[] importBatch(final List<ImportRecord> batch) throws InterruptedIOException {
+        final UserImportResult[] results = new UserImportResult[batch.size()];
+        final Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int index = 0; index < batch.size(); index++) {
+            final ImportRecord importRecord = batch.get(index);
+            final List<String> errors = validate(importRecord);
+            if (!errors.isEmpty()) {
+                results[index] = new UserImportResult(importRecord.line(), importRecord.email(),
+                        UserImportStatus.INVALID, errors);
+            } else if (candidates.putIfAbsent(importRecord.email(), index) != null) {
+                results[index] = UserImportResult.of(importRecord.line(), importRecord.email(),
+                        UserImportStatus.DUPLICATE);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return results;
+        }
+
+        try {
+            namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_EMAILS, Map.of("emails", candidates.keySet()),
+                    String.class).forEach(email -> {
+                        final Integer index = candidates.remove(EmailNormalizer.normalize(email));
+                        if (index != null) {
+                            results[index] = UserImportResult.of(batch.get(index).line(), batch.get(index).email(),
+                                    UserImportStatus.DUPLICATE);
+                        }
+                    });
+        } catch (DataAccessException exception) {
+            log.warn("User import could not check {} emails for duplicates", candidates.size(), exception);
+            return fail(batch, candidates.values(), results);
+        }
+
+        insert(batch, hash(batch, candidates.values(), results), results);
+        return results;
+    }
+
+    // Every password of the batch is submitted before the first one is awaited, so the batch is hashed on all
+    // pool threads at once; a failed hash only fails its own record.
+    private Map<Integer, Object[]> hash(final List<ImportRecord> batch,
+                                        final Iterable<Integer> indexes,
+                                        final UserImportResult[] results) throws InterruptedIOException {
+        final Map<Integer, Future<String>> hashes = new LinkedHashMap<>();
+        indexes.forEach(index -> hashes.put(index,
+                hashingExecutor.submit(() -> passwordEncoder.encode(batch.get(index).request().getPassword()))));
+
+        final Map<Integer, Object[]> rows = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Future<String>> hash : hashes.entrySet()) {
+            final ImportRecord importRecord = batch.get(hash.getKey());
+            try {
+                rows.put(hash.getKey(), row(importRecord, hash.getValue().get()));
+            } catch (ExecutionException exception) {
+                log.warn("User import could not hash the password on line {}", importRecord.line(),
+                        exception.getCause());
+                results[hash.getKey()] = UserImportResult.of(importRecord.line(), importRecord.email(),
+                        UserImportStatus.FAILED);
+            } catch (InterruptedException exception) {
+                hashes.values().forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("User import interrupted while hashing passwords");
+            }
+        }
+        return rows;
+    }
+
+    // The batch is written in one transaction so it either lands whole or not at all. If a concurrent registration
+    // or import took one of its emails in the meantime, the rows are retried one by one to tell which one it was.
+    private void insert(final List<ImportRecord> batch,
+                        final Map<Integer, Object[]> rows,
+                        final UserImportResult[] results) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(INSERT_USER, new ArrayList<>(rows.values())));
+            rows.keySet().forEach(index -> results[index] = UserImportResult.of(batch.get(index).line(),
+                    batch.get(index).email(), UserImportStatus.CREATED));
+            return;
+        } catch (DataIntegrityViolationException exception) {
+            log.debug("User import batch hit a concurrent duplicate, inserting row by row", exception);
+        } catch (DataAccessException exception) {
+            log.warn("User import could not insert a batch of {} users", rows.size(), exception);
+            fail(batch, rows.keySet(), results);
+            return;
+        }
+
+        rows.forEach((index, row) -> results[index] = UserImportResult.of(batch.get(index).line(),
+                batch.get(index).email(), insertOne(row)));
+    }
+
+    private UserImportStatus insertOne(final Object[] row) {
+        try {
+            jdbcTemplate.update(INSERT_USER, row);
+            return UserImportStatus.CREATED;
+        } catch (DuplicateKeyException exception) {
+            return UserImportStatus.DUPLICATE;
+        } catch (DataAccessException exception) {
+            log.warn("User import could not insert user {}", row[1], exception);
+            return UserImportStatus.FAILED;
+        }
+    }
+
+    private UserImportResult[] fail(final List<ImportRecord> batch,
+                                    final Iterable<Integer> indexes,
+                                    final UserImportResult[] results) {
+        indexes.forEach(index -> results[index] = UserImportResult.of(batch.get(index).line(),
+                batch.get(index).email(), UserImportStatus.FAILED));
+        return results;
+    }
+
+    private Object[] row(final ImportRecord importRecord, final String encodedPassword) {
+        final UserType userType = importRecord.email().equals(adminEmail) ? UserType.ADMIN : UserType.USER;
+
+        return new Object[]{
+                TimeOrderedUuidGenerator.toBytes(TimeOrderedUuidGenerator.next()),
+                importRecord.email(),
+                encodedPassword,
+                importRecord.request().getFirstName(),
+                importRecord.request().getLastName(),
+                userType.name(),
+                UserStatus.ACTIVE.name()
+        };
+    }
+
+    // Same constraints as registration, plus presence of email and password, which the register endpoint never
+    // receives as null in practice but a CSV column or JSON field can simply leave out.
+    private List<String> validate(final ImportRecord importRecord) {
+        if (importRecord.error() != null) {
+            return List.of(importRecord.error());
+        }
+
+        final List<String> errors = new ArrayList<>();
+        validator.validate(importRecord.request())
+                .forEach(violation -> errors.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+        if (importRecord.request().getEmail() == null) {
+            errors.add(EMAIL + ": must not be null");
+        }
+        if (importRecord.request().getPassword() == null) {
+            errors.add(PASSWORD + ": must not be null");
+        }
+        return errors;
+    }
+
+    private void write(final JsonGenerator generator,
+                       final UserImportResult[] results,
+                       final long[] counts) throws IOException {
+        for (UserImportResult result : results) {
+            counts[result.status().ordinal()]++;
+            resultWriter.writeValue(generator, result);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private UserImportSummary summarize(final long[] counts, final Duration duration) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        final double seconds = duration.toNanos() / 1_000_000_000.0;
+
+        return new UserImportSummary(total,
+                counts[UserImportStatus.CREATED.ordinal()],
+                counts[UserImportStatus.DUPLICATE.ordinal()],
+                counts[UserImportStatus.INVALID.ordinal()],
+                counts[UserImportStatus.FAILED.ordinal()],
+                duration.toMillis(),
+                seconds > 0 ? Math.round(total / seconds * 10) / 10.0 : 0);
+    }
+
+    private Map<String, Integer> readCsvHeader(final BufferedReader reader) throws IOException {
+        final String header = reader.readLine();
+        if (header == null) {
+            throw new ImportFormatNotValidException("CSV header is missing.");
+        }
+
+        final Map<String, Integer> columns = new HashMap<>();
+        final List<String> names = CsvLineParser.parse(header);
+        for (int index = 0; index < names.size(); index++) {
+            columns.put(names.get(index).trim(), index);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+            throw new ImportFormatNotValidException("CSV header must contain the columns " + CSV_COLUMNS + ".");
+        }
+        return columns;
+    }
+
+    private ImportRecord parseJson(final long line, final String json) {
+        final UserRegisterRequest request;
+        try {
+            request = objectMapper.readValue(json, UserRegisterRequest.class);
+        } catch (JsonProcessingException exception) {
+            return ImportRecord.invalid(line, "Malformed JSON record");
+        }
+        return request == null ? ImportRecord.invalid(line, "Malformed JSON record") : ImportRecord.of(line, request);
+    }
+
+    private ImportRecord parseCsv(final long line, final String csv, final Map<String, Integer> columns) {
+        final List<String> fields;
+        try {
+            fields = CsvLineParser.parse(csv);
+        } catch (IllegalArgumentException exception) {
+            return ImportRecord.invalid(line, "Malformed CSV record: " + exception.getMessage());
+        }
+        if (fields.size() != columns.size()) {
+            return ImportRecord.invalid(line, "Expected " + columns.size() + " CSV fields but found " + fields.size());
+        }
+
+        return ImportRecord.of(line, UserRegisterRequest.builder()
+                .email(fields.get(columns.get(EMAIL)))
+                .password(fields.get(columns.get(PASSWORD)))
+                .firstName(fields.get(columns.get(FIRST_NAME)))
+                .lastName(fields.get(columns.get(LAST_NAME)))
+                .build());
+    }
+
+    private record ImportRecord(long line, UserRegisterRequest request, String email, String error) {
+
+        static ImportRecord of(final long line, final UserRegisterRequest request) {
+            return new ImportRecord(line, request, EmailNormalizer.normalize(request.getEmail()), null);
+        }
+
+        static ImportRecord invalid(final long line, final String error) {
+            return new ImportRecord(line, null, null, error);
+        }
+    }
+}
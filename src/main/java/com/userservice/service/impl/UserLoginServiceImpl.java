@@ -1,10 +1,19 @@
 package com.userservice.service.impl;
 
+import com.userservice.cache.UserSnapshotCache;
 import com.userservice.exception.PasswordNotValidException;
+import com.userservice.exception.ServiceOverloadedException;
+import com.userservice.exception.UserStatusNotValidException;
 import com.userservice.model.Token;
+import com.userservice.model.UserClaims;
+import com.userservice.model.UserLoginState;
+import com.userservice.model.UserSnapshot;
 import com.userservice.model.dto.request.UserLoginRequest;
-import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.AuthOutcome;
+import com.userservice.model.enums.AuthStage;
+import com.userservice.model.enums.UserStatus;
 import com.userservice.repository.UserRepository;
+import com.userservice.security.AuthStageMetrics;
 import com.userservice.service.TokenService;
 import com.userservice.service.UserLoginService;
 import lombok.RequiredArgsConstructor;
@@ -21,23 +30,63 @@ public class UserLoginServiceImpl implements UserLoginService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final AuthStageMetrics authStageMetrics;
 
     @Override
     public Token login(UserLoginRequest request) {
-        log.info("Login attempt for email: {}", request.email());
+        log.debug("Login attempt for email: {}", request.email());
 
-        UserEntity userEntityFromDb = userRepository
-                .findUserEntityByEmail(request.email())
+        final UserSnapshot cachedUser = authStageMetrics
+                .record(AuthStage.USER_LOOKUP, () -> userSnapshotCache.findByEmail(request.email()),
+                        AuthStageMetrics::outcomeOf)
                 .orElseThrow(
                         () -> new UsernameNotFoundException(EXCEPTION_MESSAGE + request.email()));
 
         if (Boolean.FALSE.equals(passwordEncoder.matches(request.password(),
-                userEntityFromDb.getPassword()))) {
+                cachedUser.password()))) {
             log.warn("Login failed: Incorrect password for email: {}", request.email());
 
             throw new PasswordNotValidException();
         }
+
+        // The snapshot may be stale on this instance after a status change made on another one, and a token minted
+        // now carries the new epoch, so the status deciding the login and that epoch are read from the database.
+        // Caching them would reopen that window; they share one query, and the snapshot cache saves the other.
+        final UserLoginState loginState = authStageMetrics
+                .record(AuthStage.USER_LOOKUP, () -> userRepository.findLoginStateById(cachedUser.id()),
+                        state -> state.map(current -> AuthStageMetrics.outcomeOf(current.userStatus()))
+                                .orElse(AuthOutcome.USER_NOT_FOUND))
+                .orElseThrow(
+                        () -> new UsernameNotFoundException(EXCEPTION_MESSAGE + request.email()));
+        final UserSnapshot user = cachedUser.withUserStatus(loginState.userStatus());
+
+        if (!UserStatus.ACTIVE.equals(user.userStatus())) {
+            log.warn("Login failed: User status not valid for email: {}, status: {}",
+                    request.email(), user.userStatus());
+
+            throw new UserStatusNotValidException("User status: " + user.userStatus());
+        }
         log.info("Login successful for email: {}", request.email());
-        return tokenService.generateToken(userEntityFromDb.getUserClaims());
+
+        rehashPasswordIfNeeded(user, request.password());
+
+        return tokenService.generateToken(UserClaims.of(user, loginState.tokenEpoch()));
+    }
+
+    // Runs only after a successful match, the one moment the raw password is at hand. A busy hashing pool is
+    // no reason to fail the login; the rehash is tried again next time.
+    private void rehashPasswordIfNeeded(final UserSnapshot user, final String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.password())) {
+            return;
+        }
+
+        try {
+            userRepository.updatePassword(user.id(), passwordEncoder.encode(rawPassword));
+            userSnapshotCache.invalidate(user.id(), user.email());
+            log.info("Password hash upgraded for user ID: {}", user.id());
+        } catch (ServiceOverloadedException exception) {
+            log.warn("Password hash upgrade skipped for user ID: {}, hashing pool is busy", user.id());
+        }
     }
 }
@@ -1,7 +1,9 @@
 package com.userservice.service.impl;
 
+import com.userservice.model.VerifiedToken;
 import com.userservice.model.dto.request.TokenInvalidateRequest;
 import com.userservice.service.InvalidTokenService;
+import com.userservice.service.TokenEpochService;
 import com.userservice.service.TokenService;
 import com.userservice.service.UserLogoutService;
 import java.util.Set;
@@ -15,27 +17,37 @@ import org.springframework.stereotype.Service;
 public class UserLogoutServiceImpl implements UserLogoutService {
     private final TokenService tokenService;
     private final InvalidTokenService invalidTokenService;
+    private final TokenEpochService tokenEpochService;
 
     @Override
     public void logout(TokenInvalidateRequest request) {
-        log.info("Logout request received for tokens.");
+        log.debug("Logout request received for tokens.");
 
-        tokenService.verifyAndValidate(Set.of(request.accessToken(), request.refreshToken()));
-        log.info("Tokens successfully verified.");
+        final VerifiedToken accessToken = tokenService.verifyAndValidate(request.accessToken());
+        final VerifiedToken refreshToken = tokenService.verifyAndValidate(request.refreshToken());
+        log.debug("Tokens successfully verified.");
 
-        final String accessTokenId = tokenService.getPayload(request.accessToken()).getId();
-        log.info("Extracted access token ID: {}", accessTokenId);
+        final String accessTokenId = accessToken.getId();
+        log.debug("Extracted access token ID: {}", accessTokenId);
 
         invalidTokenService.checkForInvalidityOfToken(accessTokenId);
         log.debug("Checked invalidity status of access token: {}", accessTokenId);
 
-        final String refreshTokenId = tokenService.getPayload(request.refreshToken()).getId();
-        log.info("Extracted refresh token ID: {}", refreshTokenId);
+        final String refreshTokenId = refreshToken.getId();
+        log.debug("Extracted refresh token ID: {}", refreshTokenId);
 
         invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
         log.debug("Checked invalidity status of refresh token: {}", refreshTokenId);
 
-        invalidTokenService.invalidateTokens(Set.of(accessTokenId, refreshTokenId));
+        invalidTokenService.invalidateTokens(Set.of(accessToken, refreshToken));
         log.info("Tokens invalidated successfully: {}, {}", accessTokenId, refreshTokenId);
     }
+
+    @Override
+    public void logoutAll(String userId) {
+        log.debug("Logout from all sessions requested for user ID: {}", userId);
+
+        tokenEpochService.incrementEpoch(userId);
+        log.info("All tokens invalidated for user ID: {}", userId);
+    }
 }
@@ -1,14 +1,19 @@
 package com.userservice.service.impl;
 
+import com.userservice.cache.UserSnapshotCache;
 import com.userservice.exception.UserAlreadyExistException;
 import com.userservice.model.dto.request.UserRegisterRequest;
 import com.userservice.model.entity.UserEntity;
 import com.userservice.model.enums.UserType;
 import com.userservice.repository.UserRepository;
 import com.userservice.service.UserRegisterService;
+import com.userservice.utils.EmailNormalizer;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -17,46 +22,61 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserRegisterServiceImpl implements UserRegisterService {
     private static final String EXCEPTION_MESSAGE = "The email are already in use!";
+    private static final String EMAIL_CONSTRAINT = "UK_USERS_EMAIL";
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserSnapshotCache userSnapshotCache;
     @Value("${admin.email}")
     private String adminEmail;
 
     @Override
     public void registerUser(UserRegisterRequest request) {
-        log.info("User registration attempt for email: {}", request.getEmail());
+        log.debug("User registration attempt for email: {}", request.getEmail());
 
-        checkEmailAvailability(request.getEmail());
+        final String email = EmailNormalizer.normalize(request.getEmail());
 
-        UserType userType = isAdminEmail(request.getEmail());
-        log.info("User type determined as: {}", userType);
+        UserType userType = isAdminEmail(email);
+        log.debug("User type determined as: {}", userType);
+
+        // Hashed before the insert so no connection is held for the duration of the BCrypt work.
+        final String encodedPassword = passwordEncoder.encode(request.getPassword());
 
         UserEntity userEntity = UserEntity.builder()
-                .email(request.getEmail())
+                .email(email)
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .userType(userType)
                 .build();
 
-        userRepository.save(userEntity);
-        log.info("User successfully registered: {}", request.getEmail());
-
-    }
-
-    private void checkEmailAvailability(final String email) {
-        log.debug("Checking if email is already taken: {}", email);
-
-        if (userRepository.existsUserEntityByEmail(email)) {
+        try {
+            userRepository.saveAndFlush(userEntity);
+        } catch (DataIntegrityViolationException exception) {
+            if (!isEmailConflict(exception)) {
+                throw exception;
+            }
             log.warn("Registration failed: Email {} is already in use.", email);
             throw new UserAlreadyExistException(EXCEPTION_MESSAGE);
         }
+        userSnapshotCache.invalidate(userEntity.getId(), email);
+        log.info("User successfully registered: {}", email);
+    }
+
+    // Only the unique email index means the address is taken; any other integrity failure is a server error.
+    private static boolean isEmailConflict(final DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                        && violation.getConstraintName().toUpperCase(Locale.ROOT).contains(EMAIL_CONSTRAINT);
+            }
+        }
+        return false;
     }
 
     private UserType isAdminEmail(final String email) {
         log.debug("Checking if email {} belongs to an admin", email);
 
-        if (email.equals(adminEmail)) {
+        if (email.equals(EmailNormalizer.normalize(adminEmail))) {
             log.info("Admin email detected: {}", email);
             return UserType.ADMIN;
         }
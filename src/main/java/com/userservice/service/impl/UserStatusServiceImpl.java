@@ -0,0 +1,44 @@
+package com.userservice.service.impl;
+
+import com.userservice.cache.UserSnapshotCache;
+import com.userservice.exception.UserNotFoundException;
+import com.userservice.model.dto.request.UserStatusUpdateRequest;
+import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.repository.UserRepository;
+import com.userservice.service.TokenEpochService;
+import com.userservice.service.UserStatusService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStatusServiceImpl implements UserStatusService {
+    private final UserRepository userRepository;
+    private final TokenEpochService tokenEpochService;
+    private final UserSnapshotCache userSnapshotCache;
+
+    @Override
+    public void updateUserStatus(UUID userId, UserStatusUpdateRequest request) {
+        log.info("User status update requested for user ID: {}, status: {}", userId, request.userStatus());
+
+        final UserEntity userEntityFromDb = userRepository
+                .findById(userId)
+                .orElseThrow(() -> {
+                    log.warn("User not found for ID: {}", userId);
+                    return new UserNotFoundException();
+                });
+
+        userEntityFromDb.setUserStatus(request.userStatus());
+        userRepository.save(userEntityFromDb);
+        userSnapshotCache.invalidate(userId, userEntityFromDb.getEmail());
+
+        if (!UserStatus.ACTIVE.equals(request.userStatus())) {
+            tokenEpochService.incrementEpoch(userId.toString());
+            log.info("Outstanding tokens revoked for user ID: {}", userId);
+        }
+    }
+}
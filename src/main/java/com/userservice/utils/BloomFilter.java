@@ -0,0 +1,97 @@
+package com.userservice.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Getter;
+
+public class BloomFilter {
+    private static final double LN2 = Math.log(2);
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final AtomicLongArray words;
+    @Getter
+    private final long bitSize;
+    @Getter
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1): "
+                    + falsePositiveProbability);
+        }
+
+        final long optimalBits = (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        final int wordCount = Math.toIntExact(Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE));
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+    }
+
+    public void put(final CharSequence value) {
+        final long hash1 = hash(value, SEED_1);
+        final long hash2 = hash(value, SEED_2) | 1;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            final long bit = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            final int index = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(final CharSequence value) {
+        final long hash1 = hash(value, SEED_1);
+        final long hash2 = hash(value, SEED_2) | 1;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            final long bit = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    public long getSizeInBytes() {
+        return bitSize / Byte.SIZE;
+    }
+
+    public double getExpectedFalsePositiveProbability() {
+        return Math.pow(1 - Math.exp(-hashFunctions * (double) insertions.get() / bitSize), hashFunctions);
+    }
+
+    private static long hash(final CharSequence value, final long seed) {
+        long hash = seed ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    // Final avalanche step of MurmurHash3 so that nearby inputs spread across the whole bit array.
+    private static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
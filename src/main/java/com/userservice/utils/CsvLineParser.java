@@ -0,0 +1,45 @@
+package com.userservice.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CsvLineParser {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    // RFC 4180 fields on a single line: quoted fields may contain separators and doubled quotes, but not line
+    // breaks, which keeps the import reading one record per line.
+    public List<String> parse(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int index = 0; index < line.length(); index++) {
+            final char character = line.charAt(index);
+            if (quoted) {
+                if (character != QUOTE) {
+                    field.append(character);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if (character == QUOTE) {
+                quoted = true;
+            } else if (character == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,14 @@
+package com.userservice.utils;
+
+import java.util.Locale;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class EmailNormalizer {
+
+    // Emails are stored and looked up in this form, so the unique index on EMAIL treats addresses that differ
+    // only in case or surrounding whitespace as the same account.
+    public String normalize(final String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+-- Converts the text UUID keys written before the time-ordered ids to BINARY(16) (MySQL 8.0+).
+-- hbm2ddl update never changes the type of an existing column, so run this once, with every instance stopped,
+-- before starting a release that maps the ids as java.util.UUID. UUID_TO_BIN without the swap flag produces the
+-- same big-endian layout Hibernate and TimeOrderedUuidGenerator.toBytes use. Existing random ids keep their value;
+-- only rows inserted afterwards are time-ordered.
+
+ALTER TABLE users ADD COLUMN ID_BIN BINARY(16) NULL;
+UPDATE users SET ID_BIN = UUID_TO_BIN(ID);
+ALTER TABLE users DROP PRIMARY KEY, DROP COLUMN ID;
+ALTER TABLE users CHANGE COLUMN ID_BIN ID BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (ID);
+
+ALTER TABLE invalid_tokens ADD COLUMN ID_BIN BINARY(16) NULL;
+UPDATE invalid_tokens SET ID_BIN = UUID_TO_BIN(ID);
+ALTER TABLE invalid_tokens DROP PRIMARY KEY, DROP COLUMN ID;
+ALTER TABLE invalid_tokens CHANGE COLUMN ID_BIN ID BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (ID);
+
+-- The epoch rows are keyed by the user id, so they move with it.
+ALTER TABLE user_token_epochs ADD COLUMN USER_ID_BIN BINARY(16) NULL;
+UPDATE user_token_epochs SET USER_ID_BIN = UUID_TO_BIN(USER_ID);
+ALTER TABLE user_token_epochs DROP PRIMARY KEY, DROP COLUMN USER_ID;
+ALTER TABLE user_token_epochs CHANGE COLUMN USER_ID_BIN USER_ID BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (USER_ID);
@@ -0,0 +1,67 @@
+package com.userservice.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Infrastructure for the reactive deployment ({@code spring.main.web-application-type=reactive}), which serves
+ * only the token endpoints. Tomcat stays on the classpath for the servlet deployment and would otherwise be picked
+ * for the reactive server too, so Netty is declared explicitly.
+ *
+ * <p>The R2DBC pool is kept out of the context on purpose: a {@code ConnectionFactory} bean switches off the JDBC
+ * data source, which the revocation flusher, the JPA repositories and the startup jobs still run on.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    // RSA signing and verification are CPU-bound and long enough to stall an event loop, so they get their own
+    // pool: one thread per core and a bounded queue.
+    @Bean(destroyMethod = "dispose")
+    public Scheduler tokenCryptoScheduler() {
+        return Schedulers.newBoundedElastic(Runtime.getRuntime().availableProcessors(),
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "token-crypto");
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(
+            @Value("${spring.r2dbc.url}") final String url,
+            @Value("${spring.r2dbc.username:}") final String username,
+            @Value("${spring.r2dbc.password:}") final String password,
+            @Value("${spring.r2dbc.pool.max-size:10}") final int maxSize
+    ) {
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactoryBuilder.withUrl(url)
+                        .username(username)
+                        .password(password)
+                        .build())
+                .initialSize(0)
+                .maxSize(maxSize)
+                .build());
+
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
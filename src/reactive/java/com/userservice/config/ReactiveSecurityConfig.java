@@ -0,0 +1,71 @@
+package com.userservice.config;
+
+import com.userservice.model.Token;
+import com.userservice.security.ReactiveBearerAuthenticationManager;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            final ServerHttpSecurity httpSecurity,
+            final ReactiveBearerAuthenticationManager reactiveBearerAuthenticationManager
+    ) {
+        final AuthenticationWebFilter bearerAuthenticationFilter =
+                new AuthenticationWebFilter(reactiveBearerAuthenticationManager);
+        bearerAuthenticationFilter.setServerAuthenticationConverter(this::bearerToken);
+        bearerAuthenticationFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return httpSecurity
+                .cors(customizer -> customizer.configurationSource(corsConfigurationSource()))
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(customizer -> customizer
+                        .pathMatchers(HttpMethod.POST, "/users/refresh", "/users/logout").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/actuator/prometheus", "/actuator/metrics/**")
+                        .hasAuthority("ADMIN")
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(bearerAuthenticationFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private Mono<Authentication> bearerToken(final ServerWebExchange exchange) {
+        return Mono.justOrEmpty(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .filter(Token::isBearerToken)
+                .map(header -> new BearerTokenAuthenticationToken(Token.getJwtFromHeader(header)));
+    }
+
+    private CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of("*"));
+        configuration.setAllowedMethods(List.of("*"));
+        configuration.setAllowedHeaders(List.of("*"));
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
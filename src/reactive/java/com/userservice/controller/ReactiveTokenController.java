@@ -0,0 +1,81 @@
+package com.userservice.controller;
+
+import com.userservice.model.Token;
+import com.userservice.model.dto.request.TokenInvalidateRequest;
+import com.userservice.model.dto.request.TokenRefreshRequest;
+import com.userservice.service.ReactiveRefreshTokenService;
+import com.userservice.service.ReactiveUserLogoutService;
+import com.userservice.service.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "Token Management",
+        description = "Non-blocking token refresh, logout and authentication endpoints")
+public class ReactiveTokenController {
+    private final ReactiveRefreshTokenService reactiveRefreshTokenService;
+    private final ReactiveUserLogoutService reactiveUserLogoutService;
+    private final TokenService tokenService;
+    private final Scheduler tokenCryptoScheduler;
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh access token", description = "Refreshes the JWT token using a refresh token.")
+    public Mono<ResponseEntity<Token>> refresh(@RequestBody @Valid final TokenRefreshRequest request) {
+        log.debug("Token refresh request received");
+
+        return reactiveRefreshTokenService.refreshToken(request)
+                .doOnSuccess(token -> log.info("Token successfully refreshed"))
+                .map(token -> ResponseEntity.status(HttpStatus.ACCEPTED).body(token));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "User logout", description = "Invalidates the user's token to log out.")
+    public Mono<ResponseEntity<Void>> logout(@RequestBody @Valid final TokenInvalidateRequest request) {
+        log.debug("Logout request received");
+
+        return reactiveUserLogoutService.logout(request)
+                .then(Mono.fromSupplier(() -> {
+                    log.info("User successfully logged out.");
+                    return ResponseEntity.status(HttpStatus.OK).<Void>build();
+                }));
+    }
+
+    @GetMapping("/ping")
+    @Operation(summary = "Ping API", description = "Returns 'pong' to check API status.")
+    public Mono<ResponseEntity<String>> pong() {
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body("pong!!!!"));
+    }
+
+    @GetMapping("/authenticate")
+    @Operation(summary = "Receive authenticate user", description = "Returns authentication details from a JWT token.")
+    public Mono<ResponseEntity<UsernamePasswordAuthenticationToken>> getAuthentication(
+            @RequestParam final String token) {
+        log.debug("Authentication request received for token.");
+
+        return Mono.fromCallable(() -> ResponseEntity
+                .status(HttpStatus.OK)
+                .body(tokenService.getAuthentication(token)))
+                .subscribeOn(tokenCryptoScheduler);
+    }
+}
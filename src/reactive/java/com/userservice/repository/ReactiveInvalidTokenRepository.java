@@ -0,0 +1,63 @@
+package com.userservice.repository;
+
+import com.userservice.model.entity.InvalidTokenEntity;
+import com.userservice.utils.TimeOrderedUuidGenerator;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInvalidTokenRepository {
+    private static final String EXISTS_BY_TOKEN_ID = "SELECT 1 FROM invalid_tokens WHERE TOKEN_ID = :tokenId LIMIT 1";
+    private static final String INSERT_PREFIX =
+            "INSERT INTO invalid_tokens (ID, TOKEN_ID, EXPIRES_AT, CREATED_AT) VALUES ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Boolean> existsByTokenId(final String tokenId) {
+        return databaseClient.sql(EXISTS_BY_TOKEN_ID)
+                .bind("tokenId", tokenId)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .hasElement();
+    }
+
+    // One multi-row statement, so a duplicate token id rejects the whole logout just like saveAll does.
+    // Timestamps are bound as local date-times in the JVM zone, the same values JDBC writes for an Instant.
+    public Mono<Void> saveAll(final List<InvalidTokenEntity> entities) {
+        final StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int row = 0; row < entities.size(); row++) {
+            sql.append(row == 0 ? "" : ", ")
+                    .append("(:id").append(row)
+                    .append(", :tokenId").append(row)
+                    .append(", :expiresAt").append(row)
+                    .append(", :createdAt").append(row).append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec statement = databaseClient.sql(sql.toString());
+        final Instant now = Instant.now();
+        for (int row = 0; row < entities.size(); row++) {
+            final InvalidTokenEntity entity = entities.get(row);
+            statement = statement
+                    .bind("id" + row, TimeOrderedUuidGenerator.toBytes(TimeOrderedUuidGenerator.next()))
+                    .bind("tokenId" + row, entity.getTokenId())
+                    .bind("createdAt" + row, localDateTime(entity.getCreatedAt() == null ? now : entity.getCreatedAt()));
+            statement = entity.getExpiresAt() == null
+                    ? statement.bindNull("expiresAt" + row, LocalDateTime.class)
+                    : statement.bind("expiresAt" + row, localDateTime(entity.getExpiresAt()));
+        }
+        return statement.then();
+    }
+
+    private static LocalDateTime localDateTime(final Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
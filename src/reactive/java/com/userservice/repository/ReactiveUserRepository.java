@@ -0,0 +1,38 @@
+package com.userservice.repository;
+
+import com.userservice.model.UserSnapshot;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import com.userservice.utils.TimeOrderedUuidGenerator;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserRepository {
+    private static final String FIND_SNAPSHOT_BY_ID = """
+            SELECT EMAIL, PASSWORD, USER_TYPE, USER_STATUS, FIRST_NAME, LAST_NAME
+            FROM users WHERE ID = :id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UserSnapshot> findSnapshotById(final UUID id) {
+        return databaseClient.sql(FIND_SNAPSHOT_BY_ID)
+                .bind("id", TimeOrderedUuidGenerator.toBytes(id))
+                .map(row -> new UserSnapshot(
+                        id,
+                        row.get("EMAIL", String.class),
+                        row.get("PASSWORD", String.class),
+                        UserType.valueOf(row.get("USER_TYPE", String.class)),
+                        UserStatus.valueOf(row.get("USER_STATUS", String.class)),
+                        row.get("FIRST_NAME", String.class),
+                        row.get("LAST_NAME", String.class)))
+                .one();
+    }
+}
@@ -0,0 +1,25 @@
+package com.userservice.repository;
+
+import com.userservice.utils.TimeOrderedUuidGenerator;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserTokenEpochRepository {
+    private static final String FIND_EPOCH_BY_USER_ID = "SELECT EPOCH FROM user_token_epochs WHERE USER_ID = :userId";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> findEpochByUserId(final UUID userId) {
+        return databaseClient.sql(FIND_EPOCH_BY_USER_ID)
+                .bind("userId", TimeOrderedUuidGenerator.toBytes(userId))
+                .map(row -> row.get("EPOCH", Long.class))
+                .one();
+    }
+}
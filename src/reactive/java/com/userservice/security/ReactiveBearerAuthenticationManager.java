@@ -0,0 +1,49 @@
+package com.userservice.security;
+
+import com.userservice.model.VerifiedToken;
+import com.userservice.service.ReactiveInvalidTokenService;
+import com.userservice.service.ReactiveTokenEpochService;
+import com.userservice.service.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Reactive counterpart of {@code CustomBearerAuthFilter}: the same signature verification and authentication
+ * from {@link TokenService}, with the revocation and token epoch lookups done without blocking the event loop and the
+ * signature check run on the token crypto scheduler.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBearerAuthenticationManager implements ReactiveAuthenticationManager {
+    private final TokenService tokenService;
+    private final ReactiveInvalidTokenService reactiveInvalidTokenService;
+    private final ReactiveTokenEpochService reactiveTokenEpochService;
+    private final Scheduler tokenCryptoScheduler;
+
+    @Override
+    public Mono<Authentication> authenticate(final Authentication authentication) {
+        final String jwt = ((BearerTokenAuthenticationToken) authentication).getToken();
+
+        final Mono<Authentication> authenticated = Mono.<Authentication>defer(() -> {
+            final VerifiedToken verifiedToken = tokenService.verifyAndValidate(jwt);
+
+            return reactiveInvalidTokenService.checkForInvalidityOfToken(verifiedToken.getId())
+                    .then(reactiveTokenEpochService.checkTokenEpoch(verifiedToken))
+                    .then(Mono.fromCallable(() -> tokenService.getAuthentication(verifiedToken)));
+        }).subscribeOn(tokenCryptoScheduler);
+
+        // Anything but an authentication failure would otherwise surface as a 500 instead of a 401.
+        return authenticated
+                .onErrorMap(exception -> !(exception instanceof AuthenticationException),
+                        exception -> new BadCredentialsException(exception.getMessage(), exception));
+    }
+}
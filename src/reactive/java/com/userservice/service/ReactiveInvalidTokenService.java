@@ -0,0 +1,11 @@
+package com.userservice.service;
+
+import com.userservice.model.VerifiedToken;
+import java.util.Set;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveInvalidTokenService {
+    Mono<Void> invalidateTokens(final Set<VerifiedToken> tokens);
+
+    Mono<Void> checkForInvalidityOfToken(final String tokenId);
+}
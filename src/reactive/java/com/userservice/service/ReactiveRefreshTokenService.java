@@ -0,0 +1,9 @@
+package com.userservice.service;
+
+import com.userservice.model.Token;
+import com.userservice.model.dto.request.TokenRefreshRequest;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshTokenService {
+    Mono<Token> refreshToken(final TokenRefreshRequest request);
+}
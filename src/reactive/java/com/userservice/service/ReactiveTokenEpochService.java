@@ -0,0 +1,12 @@
+package com.userservice.service;
+
+import com.userservice.model.VerifiedToken;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTokenEpochService {
+    Mono<Long> getCurrentEpoch(final String userId);
+
+    Mono<Void> checkTokenEpoch(final VerifiedToken token);
+
+    Mono<Void> checkTokenEpoch(final VerifiedToken token, final long currentEpoch);
+}
@@ -0,0 +1,8 @@
+package com.userservice.service;
+
+import com.userservice.model.dto.request.TokenInvalidateRequest;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserLogoutService {
+    Mono<Void> logout(final TokenInvalidateRequest request);
+}
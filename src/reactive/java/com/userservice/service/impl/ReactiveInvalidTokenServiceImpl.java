@@ -0,0 +1,70 @@
+package com.userservice.service.impl;
+
+import com.userservice.cache.RevocationWriteBehindBuffer;
+import com.userservice.cache.RevokedTokenFilter;
+import com.userservice.exception.TokenAlreadyInvalidatedException;
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.entity.InvalidTokenEntity;
+import com.userservice.repository.ReactiveInvalidTokenRepository;
+import com.userservice.service.ReactiveInvalidTokenService;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInvalidTokenServiceImpl implements ReactiveInvalidTokenService {
+
+    private final ReactiveInvalidTokenRepository reactiveInvalidTokenRepository;
+    private final RevokedTokenFilter revokedTokenFilter;
+    private final RevocationWriteBehindBuffer revocationWriteBehindBuffer;
+
+    @Override
+    public Mono<Void> invalidateTokens(Set<VerifiedToken> tokens) {
+        return Mono.defer(() -> {
+            final List<InvalidTokenEntity> invalidTokenEntities = tokens.stream()
+                    .map(token -> InvalidTokenEntity.builder()
+                            .tokenId(token.getId())
+                            .expiresAt(token.getExpiresAt())
+                            .build())
+                    .toList();
+
+            invalidTokenEntities.forEach(entity -> revokedTokenFilter.put(entity.getTokenId()));
+
+            final List<InvalidTokenEntity> unbufferedEntities = invalidTokenEntities.stream()
+                    .filter(entity -> !revocationWriteBehindBuffer.offer(entity))
+                    .toList();
+
+            if (unbufferedEntities.isEmpty()) {
+                return Mono.empty();
+            }
+
+            return reactiveInvalidTokenRepository.saveAll(unbufferedEntities)
+                    .onErrorMap(DataIntegrityViolationException.class,
+                            exception -> new TokenAlreadyInvalidatedException());
+        });
+    }
+
+    @Override
+    public Mono<Void> checkForInvalidityOfToken(String tokenId) {
+        return Mono.defer(() -> {
+            if (revocationWriteBehindBuffer.isPending(tokenId)) {
+                return Mono.error(new TokenAlreadyInvalidatedException(tokenId));
+            }
+
+            if (!revokedTokenFilter.mightContain(tokenId)) {
+                return Mono.empty();
+            }
+
+            return reactiveInvalidTokenRepository.existsByTokenId(tokenId)
+                    .flatMap(exists -> exists
+                            ? Mono.error(new TokenAlreadyInvalidatedException(tokenId))
+                            : Mono.empty());
+        });
+    }
+}
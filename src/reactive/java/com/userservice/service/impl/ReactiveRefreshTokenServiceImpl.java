@@ -0,0 +1,68 @@
+package com.userservice.service.impl;
+
+import com.userservice.cache.UserSnapshotCache;
+import com.userservice.exception.UserNotFoundException;
+import com.userservice.exception.UserStatusNotValidException;
+import com.userservice.model.Token;
+import com.userservice.model.UserClaims;
+import com.userservice.model.UserSnapshot;
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.dto.request.TokenRefreshRequest;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.repository.ReactiveUserRepository;
+import com.userservice.service.ReactiveInvalidTokenService;
+import com.userservice.service.ReactiveRefreshTokenService;
+import com.userservice.service.ReactiveTokenEpochService;
+import com.userservice.service.TokenService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRefreshTokenServiceImpl implements ReactiveRefreshTokenService {
+    private final TokenService tokenService;
+    private final ReactiveInvalidTokenService reactiveInvalidTokenService;
+    private final ReactiveTokenEpochService reactiveTokenEpochService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final Scheduler tokenCryptoScheduler;
+
+    @Override
+    public Mono<Token> refreshToken(TokenRefreshRequest request) {
+        return Mono.defer(() -> {
+            final VerifiedToken refreshToken = tokenService.verifyAndValidate(request.refreshToken());
+            final String userId = refreshToken.getUserId();
+            log.info("Refresh token successfully verified for user ID: {}", userId);
+
+            return reactiveInvalidTokenService.checkForInvalidityOfToken(refreshToken.getId())
+                    .then(reactiveTokenEpochService.getCurrentEpoch(userId))
+                    .flatMap(tokenEpoch -> reactiveTokenEpochService.checkTokenEpoch(refreshToken, tokenEpoch)
+                            .then(Mono.fromFuture(() -> userSnapshotCache.findById(UUID.fromString(userId),
+                                    key -> reactiveUserRepository.findSnapshotById(key).toFuture()), true))
+                            .switchIfEmpty(Mono.error(() -> {
+                                log.warn("User not found for ID: {}", userId);
+                                return new UserNotFoundException();
+                            }))
+                            .doOnNext(this::validateUserStatus)
+                            .publishOn(tokenCryptoScheduler)
+                            .map(user -> tokenService.generateAccessToken(
+                                    UserClaims.of(user, tokenEpoch), refreshToken)));
+        }).subscribeOn(tokenCryptoScheduler);
+    }
+
+    private void validateUserStatus(UserSnapshot user) {
+        if (!(UserStatus.ACTIVE.equals(user.userStatus()))) {
+            log.warn("User status not valid for user ID: {}, status: {}",
+                    user.id(), user.userStatus());
+
+            throw new UserStatusNotValidException("User status: " + user.userStatus());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.userservice.service.impl;
+
+import com.userservice.cache.TokenEpochCache;
+import com.userservice.exception.TokenAlreadyInvalidatedException;
+import com.userservice.model.VerifiedToken;
+import com.userservice.repository.ReactiveUserTokenEpochRepository;
+import com.userservice.service.ReactiveTokenEpochService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTokenEpochServiceImpl implements ReactiveTokenEpochService {
+    private final ReactiveUserTokenEpochRepository reactiveUserTokenEpochRepository;
+    private final TokenEpochCache tokenEpochCache;
+
+    // Users without a row have never been revoked in bulk and sit at epoch 0. Minting reads the database, as a
+    // bump on another instance leaves this instance's cache stale until it expires.
+    @Override
+    public Mono<Long> getCurrentEpoch(String userId) {
+        return reactiveUserTokenEpochRepository.findEpochByUserId(UUID.fromString(userId)).defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Mono<Void> checkTokenEpoch(VerifiedToken token) {
+        return Mono.fromFuture(() -> tokenEpochCache.get(token.getUserId(),
+                        key -> getCurrentEpoch(key).toFuture()), true)
+                .flatMap(currentEpoch -> checkTokenEpoch(token, currentEpoch));
+    }
+
+    @Override
+    public Mono<Void> checkTokenEpoch(VerifiedToken token, long currentEpoch) {
+        return token.getTokenEpoch() < currentEpoch
+                ? Mono.error(new TokenAlreadyInvalidatedException(token.getId()))
+                : Mono.empty();
+    }
+}
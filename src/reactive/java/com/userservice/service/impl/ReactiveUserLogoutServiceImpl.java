@@ -0,0 +1,39 @@
+package com.userservice.service.impl;
+
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.dto.request.TokenInvalidateRequest;
+import com.userservice.service.ReactiveInvalidTokenService;
+import com.userservice.service.ReactiveUserLogoutService;
+import com.userservice.service.TokenService;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserLogoutServiceImpl implements ReactiveUserLogoutService {
+    private final TokenService tokenService;
+    private final ReactiveInvalidTokenService reactiveInvalidTokenService;
+    private final Scheduler tokenCryptoScheduler;
+
+    @Override
+    public Mono<Void> logout(TokenInvalidateRequest request) {
+        return Mono.defer(() -> {
+            final VerifiedToken accessToken = tokenService.verifyAndValidate(request.accessToken());
+            final VerifiedToken refreshToken = tokenService.verifyAndValidate(request.refreshToken());
+            log.debug("Tokens successfully verified.");
+
+            return reactiveInvalidTokenService.checkForInvalidityOfToken(accessToken.getId())
+                    .then(reactiveInvalidTokenService.checkForInvalidityOfToken(refreshToken.getId()))
+                    .then(reactiveInvalidTokenService.invalidateTokens(Set.of(accessToken, refreshToken)))
+                    .doOnSuccess(ignored -> log.info("Tokens invalidated successfully: {}, {}",
+                            accessToken.getId(), refreshToken.getId()));
+        }).subscribeOn(tokenCryptoScheduler);
+    }
+}
@@ -12,7 +12,6 @@ import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
-import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -38,7 +37,7 @@ public class AbstractRestControllerTest extends AbstractTestContainerConfigurati
     @BeforeEach
     public void initializeAuth() {
         UserEntity mockUser = UserEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .email("karpo99old@gmail.com")
                 .password("password")
                 .firstName("Bob")
@@ -0,0 +1,105 @@
+package com.userservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CallerThreadLoaderTest {
+    private final AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void givenConcurrentMisses_whenGet_thenLoadOnceOnCallingThread() throws Exception {
+
+        //Given
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Thread> callerThread = new CompletableFuture<>();
+        final CompletableFuture<Thread> loaderThread = new CompletableFuture<>();
+        final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            callerThread.complete(Thread.currentThread());
+            return CallerThreadLoader.get(cache, "key", key -> {
+                loaderThread.complete(Thread.currentThread());
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            });
+        });
+        loading.await(5, TimeUnit.SECONDS);
+
+        //When
+        final CompletableFuture<String> second = CompletableFuture.supplyAsync(() ->
+                CallerThreadLoader.get(cache, "key", key -> {
+                    loads.incrementAndGet();
+                    return "other";
+                }));
+        release.countDown();
+
+        //Then
+        assertEquals("value", first.get(5, TimeUnit.SECONDS));
+        assertEquals("value", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertSame(callerThread.get(), loaderThread.get());
+    }
+
+    @Test
+    void givenLoaderReturnsNull_whenGet_thenValueIsNotCached() {
+
+        //Given
+        CallerThreadLoader.get(cache, "key", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        //When
+        final String value = CallerThreadLoader.get(cache, "key", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        //Then
+        assertNull(value);
+        assertEquals(2, loads.get());
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    void givenLoaderThrows_whenGet_thenPropagateAndRetryOnNextCall() {
+
+        //When & Then
+        assertThrows(IllegalStateException.class, () -> CallerThreadLoader.get(cache, "key", key -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals("value", CallerThreadLoader.get(cache, "key", key -> "value"));
+    }
+
+    @Test
+    void givenLoaderThrowsError_whenGet_thenPropagateAndDoNotBlockLaterCallers() throws Exception {
+
+        //When & Then
+        assertThrows(LinkageError.class, () -> CallerThreadLoader.get(cache, "key", key -> {
+            throw new LinkageError("class not loadable");
+        }));
+        assertNull(cache.getIfPresent("key"));
+        assertEquals("value", CompletableFuture.supplyAsync(() -> CallerThreadLoader.get(cache, "key", key -> "value"))
+                .get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
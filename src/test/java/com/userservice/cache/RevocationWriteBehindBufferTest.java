@@ -0,0 +1,157 @@
+package com.userservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.userservice.model.VerifiedToken;
+import com.userservice.model.entity.InvalidTokenEntity;
+import com.userservice.repository.InvalidTokenRepository;
+import com.userservice.security.AuthStageMetrics;
+import com.userservice.service.impl.InvalidTokenServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class RevocationWriteBehindBufferTest {
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(100);
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final int COLUMNS = 4;
+    private static final String FAILING_TOKEN_ID = "token-failing";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Set<String> persistedTokenIds = ConcurrentHashMap.newKeySet();
+    private final RevocationWriteBehindBuffer buffer = new RevocationWriteBehindBuffer(
+            true, 100, 3, FLUSH_INTERVAL, MAX_WRITE_ATTEMPTS, jdbcTemplate, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        buffer.stop();
+    }
+
+    @Test
+    void givenStoppedBuffer_whenInvalidateTokens_thenWriteSynchronously() {
+
+        //Given
+        final InvalidTokenRepository invalidTokenRepository = mock(InvalidTokenRepository.class);
+        final InvalidTokenServiceImpl invalidTokenService = new InvalidTokenServiceImpl(invalidTokenRepository,
+                mock(RevokedTokenFilter.class), buffer, new AuthStageMetrics(meterRegistry, false));
+        buffer.start();
+        buffer.stop();
+
+        //When
+        invalidTokenService.invalidateTokens(Set.of(token("token-1")));
+
+        //Then
+        assertFalse(buffer.offer(entity("token-2")));
+        assertFalse(buffer.isPending("token-1"));
+        verify(invalidTokenRepository).saveAll(argThat((List<InvalidTokenEntity> entities) ->
+                entities.size() == 1 && "token-1".equals(entities.get(0).getTokenId())));
+    }
+
+    @Test
+    void givenBatchFailsMaxWriteAttemptsTimes_whenFlush_thenWriteRowByRowAndDropOnlyFailingRow()
+            throws InterruptedException {
+
+        //Given
+        final AtomicInteger batchWrites = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            final Object[] arguments = (Object[]) invocation.getRawArguments()[1];
+            if (arguments.length > COLUMNS) {
+                batchWrites.incrementAndGet();
+                throw new QueryTimeoutException("batch");
+            }
+            if (FAILING_TOKEN_ID.equals(arguments[1])) {
+                throw new QueryTimeoutException("row");
+            }
+            persistedTokenIds.add((String) arguments[1]);
+            return 1;
+        });
+        buffer.start();
+
+        //When
+        buffer.offer(entity("token-1"));
+        buffer.offer(entity(FAILING_TOKEN_ID));
+        buffer.offer(entity("token-2"));
+        await(() -> persistedTokenIds.size() == 2 && !buffer.isPending(FAILING_TOKEN_ID));
+
+        //Then
+        assertEquals(MAX_WRITE_ATTEMPTS, batchWrites.get());
+        assertEquals(Set.of("token-1", "token-2"), persistedTokenIds);
+        assertFalse(buffer.isPending("token-1"));
+        assertEquals(1.0, meterRegistry.get("revocation.write.behind.dropped").counter().count());
+    }
+
+    @Test
+    void givenWriteInFlight_whenIsPending_thenTrueUntilRowIsPersisted() throws InterruptedException {
+
+        //Given
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            writing.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            persistedTokenIds.add((String) ((Object[]) invocation.getRawArguments()[1])[1]);
+            return 1;
+        });
+        buffer.start();
+
+        //When
+        buffer.offer(entity("token-1"));
+
+        //Then
+        assertTrue(buffer.isPending("token-1"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        assertTrue(buffer.isPending("token-1"));
+
+        //When
+        release.countDown();
+        await(() -> !buffer.isPending("token-1"));
+
+        //Then
+        assertEquals(Set.of("token-1"), persistedTokenIds);
+    }
+
+    private static VerifiedToken token(final String tokenId) {
+        return VerifiedToken.builder()
+                .payload(Jwts.claims()
+                        .id(tokenId)
+                        .expiration(Date.from(Instant.parse("2030-01-01T00:00:00Z")))
+                        .build())
+                .build();
+    }
+
+    private static InvalidTokenEntity entity(final String tokenId) {
+        return InvalidTokenEntity.builder()
+                .tokenId(tokenId)
+                .expiresAt(Instant.parse("2030-01-01T00:00:00Z"))
+                .build();
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        for (int attempt = 0; attempt < 500 && !condition.getAsBoolean(); attempt++) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
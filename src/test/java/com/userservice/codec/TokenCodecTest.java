@@ -0,0 +1,144 @@
+package com.userservice.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.userservice.config.TokenConfig;
+import com.userservice.model.UserClaims;
+import com.userservice.model.entity.UserEntity;
+import com.userservice.model.enums.TokenClaims;
+import com.userservice.model.enums.TokenType;
+import com.userservice.model.enums.UserStatus;
+import com.userservice.model.enums.UserType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TokenCodecTest {
+    private static TokenConfig tokenConfig;
+    private static TokenCodec tokenCodec;
+
+    @BeforeAll
+    static void initializeCodec() throws NoSuchAlgorithmException {
+        final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        final KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        tokenConfig = new TokenConfig(
+                toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()),
+                toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        tokenCodec = new TokenCodec(tokenConfig);
+    }
+
+    @Test
+    void givenPayload_whenSign_thenJjwtParsesSameClaims() {
+
+        //Given
+        final long issuedAt = System.currentTimeMillis() / 1000;
+        final Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put(TokenClaims.JWT_ID.getValue(), UUID.randomUUID().toString());
+        payload.put(TokenClaims.ISSUED_AT.getValue(), issuedAt);
+        payload.put(TokenClaims.EXPIRES_AT.getValue(), issuedAt + 60);
+        payload.put(TokenClaims.USER_TYPE.getValue(), UserType.ADMIN);
+
+        //When
+        final String jwt = tokenCodec.sign(payload);
+
+        //Then
+        final Jws<Claims> claimsJws = Jwts.parser()
+                .verifyWith(tokenConfig.getPublicKey())
+                .build()
+                .parseSignedClaims(jwt);
+
+        assertEquals(TokenType.BEARER.getValue(), claimsJws.getHeader().getType());
+        assertEquals(tokenCodec.getAlgorithm(), claimsJws.getHeader().getAlgorithm());
+        assertEquals(payload.get(TokenClaims.JWT_ID.getValue()), claimsJws.getPayload().getId());
+        assertEquals(issuedAt + 60, claimsJws.getPayload().getExpiration().toInstant().getEpochSecond());
+        assertEquals(UserType.ADMIN.name(), claimsJws.getPayload().get(TokenClaims.USER_TYPE.getValue()));
+    }
+
+    @Test
+    void givenJjwtBuiltToken_whenParse_thenHeaderSegmentIsIdentical() {
+
+        //Given
+        final String jwt = Jwts.builder()
+                .header()
+                .type(TokenType.BEARER.getValue())
+                .and()
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(tokenConfig.getPrivateKey())
+                .compact();
+
+        //When
+        final Jws<Claims> claimsJws = tokenCodec.parse(jwt);
+        final String codecJwt = tokenCodec.sign(Map.of(TokenClaims.JWT_ID.getValue(), claimsJws.getPayload().getId()));
+
+        //Then
+        assertEquals(jwt.substring(0, jwt.indexOf('.')), codecJwt.substring(0, codecJwt.indexOf('.')));
+    }
+
+    @Test
+    void givenUserClaims_whenSignAccessTokenPayload_thenClaimsMatchUserEntityClaims() {
+
+        //Given
+        final UserEntity userEntity = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("example@gmail.com")
+                .firstName("Bob")
+                .userType(UserType.USER)
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        final String tokenId = JtiGenerator.nextId();
+        final long issuedAt = System.currentTimeMillis() / 1000;
+
+        //When
+        final String jwt = tokenCodec.sign(
+                TokenPayloads.accessToken(tokenId, issuedAt, issuedAt + 60, UserClaims.of(userEntity, 3L)));
+
+        //Then
+        final Claims claims = tokenCodec.parse(jwt).getPayload();
+        final Map<String, Object> expectedClaims = new HashMap<>(userEntity.getUserClaims());
+        expectedClaims.values().removeIf(Objects::isNull);
+        expectedClaims.replaceAll((name, value) -> value instanceof Enum<?> constant ? constant.name() : value);
+
+        assertEquals(tokenId, claims.getId());
+        assertEquals(4, UUID.fromString(tokenId).version());
+        assertEquals(issuedAt, claims.getIssuedAt().toInstant().getEpochSecond());
+        expectedClaims.forEach((name, value) -> assertEquals(value, claims.get(name)));
+        assertFalse(claims.containsKey(TokenClaims.USER_LAST_NAME.getValue()));
+        assertEquals(3L, claims.get(TokenClaims.TOKEN_EPOCH.getValue(), Long.class));
+    }
+
+    @Test
+    void givenTamperedToken_whenParse_thenThrowJwtException() {
+
+        //Given
+        final String jwt = tokenCodec.sign(Map.of(TokenClaims.JWT_ID.getValue(), UUID.randomUUID().toString()));
+        final String tampered = jwt.substring(0, jwt.length() - 4) + "AAAA";
+
+        //When & Then
+        assertThrows(JwtException.class, () -> tokenCodec.parse(tampered));
+    }
+
+    private static String toPem(final String type, final byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----";
+    }
+}
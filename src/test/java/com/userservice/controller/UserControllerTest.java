@@ -1,6 +1,7 @@
 package com.userservice.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -12,12 +13,17 @@ import com.userservice.model.dto.request.TokenInvalidateRequest;
 import com.userservice.model.dto.request.TokenRefreshRequest;
 import com.userservice.model.dto.request.UserLoginRequest;
 import com.userservice.model.dto.request.UserRegisterRequest;
+import com.userservice.model.dto.request.UserStatusUpdateRequest;
+import com.userservice.model.enums.UserStatus;
 import com.userservice.service.InvalidTokenService;
 import com.userservice.service.RefreshTokenService;
+import com.userservice.service.TokenEpochService;
 import com.userservice.service.TokenService;
 import com.userservice.service.UserLoginService;
 import com.userservice.service.UserLogoutService;
 import com.userservice.service.UserRegisterService;
+import com.userservice.service.UserStatusService;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -47,6 +53,12 @@ public class UserControllerTest extends AbstractRestControllerTest {
     @MockitoBean
     private InvalidTokenService invalidTokenService;
 
+    @MockitoBean
+    private TokenEpochService tokenEpochService;
+
+    @MockitoBean
+    private UserStatusService userStatusService;
+
     @Test
     void givenValidRegisterRequest_whenRegisterUser_thenStatus_201() throws Exception {
 
@@ -177,4 +189,25 @@ public class UserControllerTest extends AbstractRestControllerTest {
         //Verify
         verify(tokenService, times(1)).getAuthentication(validToken);
     }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void givenAdmin_whenUpdateUserStatus_thenReturnStatus_Ok() throws Exception {
+
+        //Given
+        UUID userId = UUID.randomUUID();
+        UserStatusUpdateRequest statusUpdateRequest = new UserStatusUpdateRequest(UserStatus.SUSPENDED);
+
+        doNothing().when(userStatusService).updateUserStatus(eq(userId), any(UserStatusUpdateRequest.class));
+
+        //When & Then
+        mockMvc.perform(MockMvcRequestBuilders.patch("/users/{userId}/status", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(statusUpdateRequest)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        //Verify
+        verify(userStatusService, times(1)).updateUserStatus(eq(userId), any(UserStatusUpdateRequest.class));
+    }
 }
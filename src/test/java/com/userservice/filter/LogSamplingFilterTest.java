@@ -0,0 +1,69 @@
+package com.userservice.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.userservice.logging.RequestLogSampling;
+import jakarta.servlet.FilterChain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class LogSamplingFilterTest {
+    private final LogSamplingFilter logSamplingFilter = new LogSamplingFilter(3,
+            List.of("/users/login", "/users/refresh", "/users/{userId}/status"));
+
+    @Test
+    void givenRequestsToTwoEndpoints_whenFilter_thenSampleOneInRatePerEndpoint() throws Exception {
+
+        //Given
+        final List<String> sampled = new ArrayList<>();
+        final FilterChain chain = (request, response) -> {
+            if (MDC.get(RequestLogSampling.SUPPRESSED_KEY) == null) {
+                sampled.add(((MockHttpServletRequest) request).getRequestURI());
+            }
+        };
+
+        //When
+        for (int index = 0; index < 4; index++) {
+            logSamplingFilter.doFilter(new MockHttpServletRequest("POST", "/users/login"),
+                    new MockHttpServletResponse(), chain);
+        }
+        logSamplingFilter.doFilter(new MockHttpServletRequest("POST", "/users/refresh"),
+                new MockHttpServletResponse(), chain);
+
+        //Then
+        assertEquals(List.of("/users/login", "/users/login", "/users/refresh"), sampled);
+        assertNull(MDC.get(RequestLogSampling.SUPPRESSED_KEY));
+    }
+
+    @Test
+    void givenRequestsWithDifferentPaths_whenFilter_thenCountPerRoutePatternAndShareOneCounterForUnknownPaths()
+            throws Exception {
+
+        //Given
+        final List<String> sampled = new ArrayList<>();
+        final FilterChain chain = (request, response) -> {
+            if (MDC.get(RequestLogSampling.SUPPRESSED_KEY) == null) {
+                sampled.add(((MockHttpServletRequest) request).getRequestURI());
+            }
+        };
+
+        //When
+        for (int index = 0; index < 4; index++) {
+            logSamplingFilter.doFilter(new MockHttpServletRequest("PATCH", "/users/" + UUID.randomUUID() + "/status"),
+                    new MockHttpServletResponse(), chain);
+            logSamplingFilter.doFilter(new MockHttpServletRequest("GET", "/scan/" + index),
+                    new MockHttpServletResponse(), chain);
+        }
+
+        //Then
+        assertEquals(4, sampled.size());
+        assertEquals(2, sampled.stream().filter(uri -> uri.endsWith("/status")).count());
+        assertEquals(List.of("/scan/0", "/scan/3"), sampled.stream().filter(uri -> uri.startsWith("/scan/")).toList());
+    }
+}
@@ -0,0 +1,185 @@
+package com.userservice.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.userservice.cache.RevokedTokenFilter;
+import com.userservice.model.entity.InvalidTokenEntity;
+import com.userservice.repository.InvalidTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class RevocationFeedPollerTest {
+    private static final Duration GAP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final NavigableMap<Long, InvalidTokenEntity> invalidTokens = new TreeMap<>();
+    private final InvalidTokenRepository invalidTokenRepository = mock(InvalidTokenRepository.class);
+    private final RevokedTokenFilter revokedTokenFilter = mock(RevokedTokenFilter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+
+    @BeforeEach
+    void setUp() {
+        when(invalidTokenRepository.findMaxSequence()).thenReturn(0L);
+        when(invalidTokenRepository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> invalidTokens.tailMap(invocation.<Long>getArgument(0), false).values()
+                        .stream()
+                        .limit(invocation.<Limit>getArgument(1).max())
+                        .toList());
+        when(invalidTokenRepository.findBySequenceIn(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).stream()
+                        .filter(invalidTokens::containsKey)
+                        .map(invalidTokens::get)
+                        .toList());
+        when(invalidTokenRepository.findBySequenceBetweenOrderBySequenceAsc(anyLong(), anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> invalidTokens
+                        .subMap(invocation.<Long>getArgument(0), true, invocation.<Long>getArgument(1), true)
+                        .values()
+                        .stream()
+                        .limit(invocation.<Limit>getArgument(2).max())
+                        .toList());
+    }
+
+    @Test
+    void givenTwoGaps_whenGapTimeoutPasses_thenSkipBothGapsTogether() {
+
+        //Given
+        final RevocationFeedPoller poller = poller(10);
+        poller.start();
+        insert(1, 3, 5);
+        poller.poll();
+        assertEquals(1, highWaterMark());
+
+        //When
+        clock.advance(GAP_TIMEOUT);
+        poller.poll();
+
+        //Then
+        assertEquals(5, highWaterMark());
+    }
+
+    @Test
+    void givenMoreThanBatchSizeRowsAboveGap_whenPoll_thenApplyEveryRowAndWaitOnlyWithHighWaterMark() {
+
+        //Given
+        final RevocationFeedPoller poller = poller(2);
+        poller.start();
+        insert(1, 3, 4, 5, 6, 7);
+
+        //When
+        for (int poll = 0; poll < 3; poll++) {
+            poller.poll();
+        }
+
+        //Then
+        for (long sequence : List.of(1L, 3L, 4L, 5L, 6L, 7L)) {
+            verify(revokedTokenFilter).put(tokenId(sequence));
+        }
+        assertEquals(1, highWaterMark());
+
+        //When
+        insert(2);
+        poller.poll();
+
+        //Then
+        verify(revokedTokenFilter).put(tokenId(2));
+        assertEquals(7, highWaterMark());
+    }
+
+    @Test
+    void givenSequenceJumpOfMillions_whenPoll_thenTrackItAsOneRangeAndScanIt() {
+
+        //Given
+        final RevocationFeedPoller poller = poller(10);
+        poller.start();
+        insert(1, 5_000_000);
+        poller.poll();
+        assertEquals(1, highWaterMark());
+
+        //When
+        insert(2_500_000);
+        poller.poll();
+
+        //Then
+        verify(revokedTokenFilter).put(tokenId(2_500_000));
+        verify(invalidTokenRepository, never()).findBySequenceIn(anyCollection());
+        assertEquals(1, highWaterMark());
+
+        //When
+        insert(2);
+        poller.poll();
+
+        //Then
+        verify(revokedTokenFilter).put(tokenId(2));
+        assertEquals(2, highWaterMark());
+
+        //When
+        clock.advance(GAP_TIMEOUT);
+        poller.poll();
+
+        //Then
+        assertEquals(5_000_000, highWaterMark());
+    }
+
+    private RevocationFeedPoller poller(final int batchSize) {
+        return new RevocationFeedPoller(
+                invalidTokenRepository, revokedTokenFilter, meterRegistry, batchSize, GAP_TIMEOUT, clock);
+    }
+
+    private void insert(final long... sequences) {
+        for (long sequence : sequences) {
+            invalidTokens.put(sequence, InvalidTokenEntity.builder()
+                    .tokenId(tokenId(sequence))
+                    .sequence(sequence)
+                    .build());
+        }
+    }
+
+    private static String tokenId(final long sequence) {
+        return "token-" + sequence;
+    }
+
+    private double highWaterMark() {
+        return meterRegistry.get("revocation.feed.high.water.mark").gauge().value();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
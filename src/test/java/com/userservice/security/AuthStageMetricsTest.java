@@ -0,0 +1,61 @@
+package com.userservice.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.userservice.exception.TokenAlreadyInvalidatedException;
+import com.userservice.model.enums.AuthOutcome;
+import com.userservice.model.enums.AuthStage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class AuthStageMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthStageMetrics authStageMetrics = new AuthStageMetrics(meterRegistry);
+
+    @Test
+    void givenStageReturnsRejection_whenRecord_thenTagOutcomeFromResult() {
+
+        //When
+        final boolean matches = authStageMetrics.record(AuthStage.PASSWORD_VERIFY, () -> false,
+                result -> result ? AuthOutcome.OK : AuthOutcome.PASSWORD_MISMATCH);
+
+        //Then
+        assertFalse(matches);
+        assertEquals(1, count(AuthStage.PASSWORD_VERIFY, AuthOutcome.PASSWORD_MISMATCH));
+    }
+
+    @Test
+    void givenStageThrows_whenRecord_thenTagOutcomeFromExceptionAndRethrow() {
+
+        //When
+        assertThrows(TokenAlreadyInvalidatedException.class, () -> authStageMetrics.record(
+                AuthStage.REVOCATION_LOOKUP, () -> {
+                    throw new TokenAlreadyInvalidatedException("token-id");
+                }));
+
+        //Then
+        assertEquals(1, count(AuthStage.REVOCATION_LOOKUP, AuthOutcome.REVOKED));
+    }
+
+    @Test
+    void givenRepeatedStage_whenRecord_thenReuseOneTimerPerOutcome() {
+
+        //When
+        authStageMetrics.record(AuthStage.TOKEN_MINT, () -> "token");
+        authStageMetrics.record(AuthStage.TOKEN_MINT, () -> "token");
+
+        //Then
+        assertEquals(2, count(AuthStage.TOKEN_MINT, AuthOutcome.OK));
+        assertEquals(1, meterRegistry.get("auth.stage").timers().size());
+    }
+
+    private long count(final AuthStage stage, final AuthOutcome outcome) {
+        return meterRegistry.get("auth.stage")
+                .tag("stage", stage.getValue())
+                .tag("outcome", outcome.getValue())
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,49 @@
+package com.userservice.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class CostAwareBCryptPasswordEncoderTest {
+    private static final String PASSWORD = "password";
+
+    private final CostAwareBCryptPasswordEncoder passwordEncoder = new CostAwareBCryptPasswordEncoder(5, true);
+
+    @Test
+    void givenHashWithConfiguredCost_whenUpgradeEncoding_thenFalse() {
+
+        //Given
+        final String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        //When & Then
+        assertFalse(passwordEncoder.upgradeEncoding(encodedPassword));
+    }
+
+    @Test
+    void givenPinnedStrengthAndHashWithLowerOrHigherCost_whenUpgradeEncoding_thenTrue() {
+
+        //Given
+        final String weaker = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        final String stronger = new BCryptPasswordEncoder(6).encode(PASSWORD);
+
+        //When & Then
+        assertTrue(passwordEncoder.upgradeEncoding(weaker));
+        assertTrue(passwordEncoder.upgradeEncoding(stronger));
+    }
+
+    @Test
+    void givenCalibratedStrength_whenUpgradeEncoding_thenUpgradeOnlyLowerCost() {
+
+        //Given
+        final CostAwareBCryptPasswordEncoder calibratedEncoder = new CostAwareBCryptPasswordEncoder(5, false);
+        final String weaker = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        final String stronger = new BCryptPasswordEncoder(6).encode(PASSWORD);
+
+        //When & Then
+        assertTrue(calibratedEncoder.upgradeEncoding(weaker));
+        assertFalse(calibratedEncoder.upgradeEncoding(calibratedEncoder.encode(PASSWORD)));
+        assertFalse(calibratedEncoder.upgradeEncoding(stronger));
+    }
+}
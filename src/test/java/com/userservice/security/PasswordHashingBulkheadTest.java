@@ -0,0 +1,69 @@
+package com.userservice.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.userservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PasswordHashingBulkheadTest {
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(3);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PasswordHashingBulkhead bulkhead = new PasswordHashingBulkhead(
+            1, 1, Duration.ofSeconds(5), RETRY_AFTER, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.destroy();
+    }
+
+    @Test
+    void givenPoolAndQueueFull_whenExecute_thenRejectWithRetryAfter() throws InterruptedException {
+
+        //Given
+        final CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> bulkhead.execute(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(() -> bulkhead.execute(() -> true));
+        awaitQueued();
+
+        //When
+        final ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> bulkhead.execute(() -> true));
+
+        //Then
+        assertEquals(RETRY_AFTER, exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").tag("reason", "saturated")
+                .counter().count());
+    }
+
+    @Test
+    void givenTaskThrows_whenExecute_thenPropagateOriginalException() {
+
+        //When & Then
+        assertThrows(IllegalArgumentException.class, () -> bulkhead.execute(() -> {
+            throw new IllegalArgumentException("bad hash");
+        }));
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        for (int attempt = 0; attempt < 500; attempt++) {
+            if (meterRegistry.get("executor.queued").gauge().value() >= 1) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
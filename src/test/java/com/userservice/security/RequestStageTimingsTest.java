@@ -0,0 +1,47 @@
+package com.userservice.security;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.userservice.model.enums.AuthOutcome;
+import com.userservice.model.enums.AuthStage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestStageTimingsTest {
+    private final AuthStageMetrics authStageMetrics = new AuthStageMetrics(new SimpleMeterRegistry(), true);
+
+    @AfterEach
+    void tearDown() {
+        RequestStageTimings.stop();
+    }
+
+    @Test
+    void givenTimedRequest_whenHeader_thenListRecordedStagesInMillisAndTotal() {
+
+        //Given
+        RequestStageTimings.start();
+        final long now = System.nanoTime();
+        authStageMetrics.record(AuthStage.TOKEN_VERIFY, now - TimeUnit.MICROSECONDS.toNanos(1_500), AuthOutcome.OK);
+        authStageMetrics.record(AuthStage.TOKEN_VERIFY, now - TimeUnit.MICROSECONDS.toNanos(500), AuthOutcome.OK);
+
+        //When
+        final String header = RequestStageTimings.header();
+
+        //Then
+        // At least the 2 ms recorded; a cold JIT on the first run can add several more.
+        assertTrue(header.matches("token_verify;dur=([2-9]|[1-9]\\d+)\\.\\d{3}, total;dur=\\d+\\.\\d{3}"), header);
+    }
+
+    @Test
+    void givenNoTimedRequest_whenHeader_thenReturnNull() {
+
+        //Given
+        authStageMetrics.record(AuthStage.TOKEN_MINT, System.nanoTime(), AuthOutcome.OK);
+
+        //When & Then
+        assertNull(RequestStageTimings.header());
+    }
+}
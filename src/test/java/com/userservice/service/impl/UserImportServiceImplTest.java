@@ -0,0 +1,144 @@
+package com.userservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.userservice.model.dto.response.UserImportSummary;
+import com.userservice.model.enums.UserImportFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class UserImportServiceImplTest {
+    private static final String EXISTING_EMAIL = "existing@example.com";
+    private static final String TAKEN_EMAIL = "taken@example.com";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final UserImportServiceImpl userImportService = new UserImportServiceImpl(
+            jdbcTemplate,
+            namedParameterJdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            NoOpPasswordEncoder.getInstance(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            objectMapper,
+            new SimpleMeterRegistry(),
+            1,
+            10,
+            "admin@example.com");
+
+    @AfterEach
+    void tearDown() {
+        userImportService.destroy();
+    }
+
+    @Test
+    void givenDuplicatesInBatchAndDatabase_whenImportUsers_thenCreateOnlyNewEmails() throws IOException {
+
+        //Given
+        when(namedParameterJdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class)))
+                .thenReturn(List.of(EXISTING_EMAIL));
+        final String input = record("john@example.com")
+                + record("JOHN@example.com")
+                + record(EXISTING_EMAIL)
+                + record("jane@example.com");
+
+        //When
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final UserImportSummary summary = userImportService.importUsers(
+                stream(input), UserImportFormat.NDJSON, output);
+
+        //Then
+        assertEquals(List.of("CREATED", "DUPLICATE", "DUPLICATE", "CREATED"), statuses(output));
+        assertEquals(2, summary.created());
+        assertEquals(2, summary.duplicates());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void givenInvalidRecords_whenImportUsers_thenReportThemWithoutInserting() throws IOException {
+
+        //Given
+        final String input = "{not json\n"
+                + "{\"email\":\"jane\",\"password\":\"password1\",\"firstName\":\"Jane\",\"lastName\":\"Doe\"}\n"
+                + "{\"email\":\"jane@example.com\",\"firstName\":\"Jane\",\"lastName\":\"Doe\"}\n";
+
+        //When
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final UserImportSummary summary = userImportService.importUsers(
+                stream(input), UserImportFormat.NDJSON, output);
+
+        //Then
+        assertEquals(List.of("INVALID", "INVALID", "INVALID"), statuses(output));
+        assertEquals(3, summary.invalid());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void givenConcurrentDuplicateInBatch_whenImportUsers_thenInsertRowByRow() throws IOException {
+
+        //Given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DuplicateKeyException("batch"));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            if (TAKEN_EMAIL.equals(((Object[]) invocation.getRawArguments()[1])[1])) {
+                throw new DuplicateKeyException(TAKEN_EMAIL);
+            }
+            return 1;
+        });
+        final String input = record("john@example.com") + record(TAKEN_EMAIL) + record("jane@example.com");
+
+        //When
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final UserImportSummary summary = userImportService.importUsers(
+                stream(input), UserImportFormat.NDJSON, output);
+
+        //Then
+        assertEquals(List.of("CREATED", "DUPLICATE", "CREATED"), statuses(output));
+        assertEquals(2, summary.created());
+        assertEquals(1, summary.duplicates());
+    }
+
+    private static String record(final String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"password1\",\"firstName\":\"John\",\"lastName\":\"Doe\"}\n";
+    }
+
+    private static ByteArrayInputStream stream(final String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Every line but the trailing summary is one record result, in input order.
+    private List<String> statuses(final ByteArrayOutputStream output) throws IOException {
+        final List<String> statuses = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            final JsonNode result = objectMapper.readTree(line);
+            if (result.has("status")) {
+                statuses.add(result.get("status").asText());
+            }
+        }
+        return statuses;
+    }
+}
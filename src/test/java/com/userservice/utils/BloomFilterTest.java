@@ -0,0 +1,59 @@
+package com.userservice.utils;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    @Test
+    void givenInsertedIds_whenMightContain_thenNoFalseNegatives() {
+
+        //Given
+        final BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        final List<String> tokenIds = randomIds(EXPECTED_INSERTIONS);
+
+        //When
+        tokenIds.forEach(bloomFilter::put);
+
+        //Then
+        tokenIds.forEach(tokenId -> assertTrue(bloomFilter.mightContain(tokenId)));
+    }
+
+    @Test
+    void givenFilterAtCapacity_whenMightContainUnknownIds_thenFalsePositiveRateStaysNearTarget() {
+
+        //Given
+        final BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        randomIds(EXPECTED_INSERTIONS).forEach(bloomFilter::put);
+
+        //When
+        final long falsePositives = randomIds(EXPECTED_INSERTIONS).stream()
+                .filter(bloomFilter::mightContain)
+                .count();
+
+        //Then
+        assertTrue(falsePositives < EXPECTED_INSERTIONS * FALSE_POSITIVE_PROBABILITY * 2,
+                "False positives: " + falsePositives);
+        assertTrue(bloomFilter.getExpectedFalsePositiveProbability() < FALSE_POSITIVE_PROBABILITY * 1.5);
+    }
+
+    @Test
+    void givenInvalidProbability_whenCreate_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(EXPECTED_INSERTIONS, 1));
+    }
+
+    private static List<String> randomIds(final int count) {
+        final List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+}
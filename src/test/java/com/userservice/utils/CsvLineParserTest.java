@@ -0,0 +1,46 @@
+package com.userservice.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvLineParserTest {
+
+    @Test
+    void givenPlainLine_whenParse_thenSplitsOnCommas() {
+
+        //Given
+        final String line = "user@example.com,password123,John,Doe";
+
+        //When
+        final List<String> fields = CsvLineParser.parse(line);
+
+        //Then
+        assertEquals(List.of("user@example.com", "password123", "John", "Doe"), fields);
+    }
+
+    @Test
+    void givenQuotedFields_whenParse_thenKeepsSeparatorsAndUnescapesQuotes() {
+
+        //Given
+        final String line = "\"user@example.com\",\"pa,ss\"\"word\",,\"Doe\"";
+
+        //When
+        final List<String> fields = CsvLineParser.parse(line);
+
+        //Then
+        assertEquals(List.of("user@example.com", "pa,ss\"word", "", "Doe"), fields);
+    }
+
+    @Test
+    void givenUnterminatedQuote_whenParse_thenThrowsIllegalArgumentException() {
+
+        //Given
+        final String line = "user@example.com,\"password";
+
+        //When & Then
+        assertThrows(IllegalArgumentException.class, () -> CsvLineParser.parse(line));
+    }
+}
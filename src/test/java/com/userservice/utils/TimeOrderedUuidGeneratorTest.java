@@ -0,0 +1,42 @@
+package com.userservice.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void givenGeneratedId_whenInspectLayout_thenVersion7WithCurrentTimestamp() {
+
+        //Given
+        final long before = System.currentTimeMillis();
+
+        //When
+        final UUID id = TimeOrderedUuidGenerator.next();
+
+        //Then
+        final long timestamp = id.getMostSignificantBits() >>> 16;
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+    }
+
+    @Test
+    void givenIdsFromLaterMilliseconds_whenCompareBytes_thenLaterIdSortsAfter() throws InterruptedException {
+
+        //Given
+        final UUID earlier = TimeOrderedUuidGenerator.next();
+        Thread.sleep(2);
+
+        //When
+        final UUID later = TimeOrderedUuidGenerator.next();
+
+        //Then
+        assertTrue(Arrays.compareUnsigned(
+                TimeOrderedUuidGenerator.toBytes(earlier), TimeOrderedUuidGenerator.toBytes(later)) < 0);
+    }
+}